@@ -0,0 +1,42 @@
+package org.allincodec.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.results.format.ResultFormatType;
+
+/**
+ * Entry point of the benchmark jar. Always attaches the GC profiler, so every result comes
+ * with {@code gc.alloc.rate.norm} (bytes allocated per operation) next to the time.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar                         all benchmarks, default sizes
+ * java -jar target/benchmarks.jar Traversal               benchmarks matching a regex
+ * java -jar target/benchmarks.jar Traversal --sizes 1000,100000000
+ * </pre>
+ *
+ * Results are also written to {@code jmh-result.json} for comparison across commits. For the
+ * full set of JMH options run {@code java -cp target/benchmarks.jar org.openjdk.jmh.Main -h}.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder()
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("jmh-result.json");
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--sizes")) {
+                options.param("size", args[++i].split(","));
+            } else {
+                options.include(args[i]);
+            }
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,93 @@
+package org.allincodec.bench;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Seeded synthetic integer, interval and DNA inputs for the non-graph benchmarks.
+ */
+public final class DataGenerators {
+
+    public enum Distribution { UNIFORM, ZIPF }
+
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    private DataGenerators() {
+    }
+
+    /**
+     * {@code n} ints in {@code [0, range)}. {@link Distribution#ZIPF} draws value {@code k} with
+     * probability proportional to {@code 1 / (k + 1)^skew}, so a handful of values dominate,
+     * the shape of most real frequency-counting inputs.
+     */
+    public static int[] ints(int n, int range, Distribution distribution, double skew, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] values = new int[n];
+        if (distribution == Distribution.UNIFORM) {
+            for (int i = 0; i < n; i++) values[i] = random.nextInt(range);
+            return values;
+        }
+        double[] cumulative = new double[range];
+        double total = 0;
+        for (int k = 0; k < range; k++) {
+            total += 1.0 / Math.pow(k + 1, skew);
+            cumulative[k] = total;
+        }
+        for (int i = 0; i < n; i++) {
+            int k = Arrays.binarySearch(cumulative, random.nextDouble() * total);
+            values[i] = k >= 0 ? k : Math.min(-k - 1, range - 1);
+        }
+        return values;
+    }
+
+    public static List<Integer> boxed(int[] values) {
+        return Arrays.stream(values).boxed().toList();
+    }
+
+    /**
+     * {@code n} ints in {@code [-range, range]}, the {@code ThreeSum} input shape.
+     */
+    public static int[] signedInts(int n, int range, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextInt(-range, range + 1);
+        return values;
+    }
+
+    /**
+     * {@code n} jobs as {@code {starts, finishes}} with {@code 1 <= start < finish <= horizon}.
+     */
+    public static int[][] jobs(int n, int horizon, int maxLength, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] starts = new int[n];
+        int[] finishes = new int[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = 1 + random.nextInt(horizon - 1);
+            finishes[i] = Math.min(horizon, starts[i] + 1 + random.nextInt(maxLength));
+        }
+        return new int[][]{starts, finishes};
+    }
+
+    /**
+     * Random DNA of length {@code n} over {@code ACGT}. At each position a copy of an earlier
+     * 16 to 63 base stretch starts with probability {@code repeatRate}, so repeated k-mers
+     * actually occur.
+     */
+    public static String dna(int n, double repeatRate, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] s = new char[n];
+        int i = 0;
+        while (i < n) {
+            if (i > 64 && random.nextDouble() < repeatRate) {
+                int length = Math.min(n - i, 16 + random.nextInt(48));
+                int from = random.nextInt(i - length + 1);
+                for (int k = 0; k < length; k++) s[i + k] = s[from + k];
+                i += length;
+            } else {
+                s[i++] = BASES[random.nextInt(4)];
+            }
+        }
+        return new String(s);
+    }
+}
@@ -0,0 +1,46 @@
+package org.allincodec.bench;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.allincodec.java.graphs.DirectedGraph;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A generated directed graph as two parallel edge arrays, convertible to every graph
+ * representation the benchmarks need. Vertex ids are 0-based.
+ */
+public record EdgeList(int vertices, int[] from, int[] to) {
+
+    public int edges() {
+        return from.length;
+    }
+
+    public CsrGraph toCsr() {
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertices, Math.max(edges(), 1));
+        for (int i = 0; i < from.length; i++) {
+            builder.addEdge(from[i], to[i]);
+        }
+        return builder.build();
+    }
+
+    public DirectedGraph toDirectedGraph() {
+        DirectedGraph graph = new DirectedGraph(vertices);
+        for (int i = 0; i < from.length; i++) {
+            graph.addEdge(from[i], to[i]);
+        }
+        return graph;
+    }
+
+    /**
+     * Edges as {@code [from, to]} pairs shifted to 1-based ids, the input format of
+     * {@code PathInDirectedGraph}.
+     */
+    public List<List<Integer>> toOneBasedPairs() {
+        List<List<Integer>> pairs = new ArrayList<>(from.length);
+        for (int i = 0; i < from.length; i++) {
+            pairs.add(List.of(from[i] + 1, to[i] + 1));
+        }
+        return pairs;
+    }
+}
@@ -0,0 +1,112 @@
+package org.allincodec.bench;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded synthetic graphs. The same (shape, size, seed) always yields the same edges, so
+ * numbers from different runs and different machines describe the same input.
+ *
+ * <ul>
+ *   <li>{@link Shape#RMAT}: recursive-matrix graph with the Graph500 quadrant probabilities
+ *   (0.57, 0.19, 0.19, 0.05): a skewed, power-law degree distribution with a few hubs and
+ *   a small diameter, like web and social graphs.</li>
+ *   <li>{@link Shape#CHAIN}: {@code 0 → 1 → ... → n-1}, the worst case for depth (and for any
+ *   recursive traversal) and for level-synchronous parallelism.</li>
+ *   <li>{@link Shape#STAR}: {@code 0 → every other vertex}, one huge frontier after one step.</li>
+ * </ul>
+ */
+public final class GraphGenerators {
+
+    public enum Shape { RMAT, CHAIN, STAR }
+
+    private GraphGenerators() {
+    }
+
+    public static EdgeList generate(Shape shape, int vertices, int edgeFactor, long seed) {
+        return switch (shape) {
+            case RMAT -> rmat(vertices, edgeFactor, seed);
+            case CHAIN -> chain(vertices);
+            case STAR -> star(vertices);
+        };
+    }
+
+    /**
+     * R-MAT graph with {@code vertices * edgeFactor} edges. Vertex ids are drawn in the next
+     * power of two and folded back into range, and then scrambled so that hubs are not all
+     * clustered at small ids.
+     */
+    public static EdgeList rmat(int vertices, int edgeFactor, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int scale = 32 - Integer.numberOfLeadingZeros(Math.max(vertices - 1, 1));
+        int edges = Math.toIntExact((long) vertices * edgeFactor);
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        int[] scramble = permutation(vertices, random);
+        for (int i = 0; i < edges; i++) {
+            int u = 0;
+            int v = 0;
+            for (int bit = 0; bit < scale; bit++) {
+                double p = random.nextDouble();
+                if (p < 0.57) {
+                    // top-left quadrant: neither bit set
+                } else if (p < 0.76) {
+                    v |= 1 << bit;
+                } else if (p < 0.95) {
+                    u |= 1 << bit;
+                } else {
+                    u |= 1 << bit;
+                    v |= 1 << bit;
+                }
+            }
+            from[i] = scramble[u % vertices];
+            to[i] = scramble[v % vertices];
+        }
+        return new EdgeList(vertices, from, to);
+    }
+
+    public static EdgeList chain(int vertices) {
+        int[] from = new int[vertices - 1];
+        int[] to = new int[vertices - 1];
+        for (int i = 0; i < vertices - 1; i++) {
+            from[i] = i;
+            to[i] = i + 1;
+        }
+        return new EdgeList(vertices, from, to);
+    }
+
+    public static EdgeList star(int vertices) {
+        int[] from = new int[vertices - 1];
+        int[] to = new int[vertices - 1];
+        for (int i = 1; i < vertices; i++) {
+            to[i - 1] = i;
+        }
+        return new EdgeList(vertices, from, to);
+    }
+
+    /**
+     * Tree of the {@code ReachableTown} input format: {@code A[i]} is the parent town of town
+     * {@code i + 1} and satisfies {@code A[i] <= i}. Parents are drawn close to the child so
+     * the tree is deep rather than bushy.
+     */
+    public static int[] townTree(int towns, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        int[] A = new int[towns];
+        A[0] = 1;
+        for (int i = 1; i < towns; i++) {
+            A[i] = Math.max(1, i - random.nextInt(Math.min(i, 8)));
+        }
+        return A;
+    }
+
+    private static int[] permutation(int n, SplittableRandom random) {
+        int[] p = new int[n];
+        for (int i = 0; i < n; i++) p[i] = i;
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int t = p[i];
+            p[i] = p[j];
+            p[j] = t;
+        }
+        return p;
+    }
+}
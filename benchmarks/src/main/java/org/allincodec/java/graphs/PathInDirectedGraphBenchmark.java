@@ -0,0 +1,54 @@
+package org.allincodec.java.graphs;
+
+import org.allincodec.bench.GraphGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link PathInDirectedGraph} as written, on the same R-MAT graphs as
+ * {@link ReachabilityBenchmark}. Its input is a boxed {@code List<List<Integer>>} of edges,
+ * about 60 bytes per edge, and every call rebuilds a boxed adjacency list on top of it. At 10^7
+ * vertices and edge factor 8 that is 4.8 GB of input before the first call, which does not fit
+ * the 8 GB fork, so sizes stop at 10^6.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class PathInDirectedGraphBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    int size;
+
+    @Param("8")
+    int edgeFactor;
+
+    @Param("42")
+    long seed;
+
+    private List<List<Integer>> pairs;
+
+    @Setup
+    public void setUp() {
+        pairs = GraphGenerators.rmat(size, edgeFactor, seed).toOneBasedPairs();
+    }
+
+    @Benchmark
+    public int pathInDirectedGraph() {
+        return PathInDirectedGraph.isDestReachable(size, pairs);
+    }
+}
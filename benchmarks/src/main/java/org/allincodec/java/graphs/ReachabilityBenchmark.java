@@ -0,0 +1,96 @@
+package org.allincodec.java.graphs;
+
+import org.allincodec.bench.GraphGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ReachabilityIndex} on an R-MAT graph, and {@link ReachableTown} as written (graph
+ * rebuilt per query) against {@link TownReachabilityIndex} on a generated town tree of the same
+ * size. Index benchmarks answer a fixed batch of {@value #QUERIES} seeded queries per operation.
+ * The boxed {@link PathInDirectedGraph} baseline does not fit the heap at 10^7 and has its own,
+ * smaller sizes in {@link PathInDirectedGraphBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class ReachabilityBenchmark {
+
+    static final int QUERIES = 1024;
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param("8")
+    int edgeFactor;
+
+    @Param("42")
+    long seed;
+
+    private CsrGraph graph;
+    private ReachabilityIndex index;
+    private int[] towns;
+    private TownReachabilityIndex townIndex;
+    private int[] from;
+    private int[] to;
+
+    @Setup
+    public void setUp() {
+        graph = GraphGenerators.rmat(size, edgeFactor, seed).toCsr();
+        index = new ReachabilityIndex(graph);
+        towns = GraphGenerators.townTree(size, seed);
+        townIndex = new TownReachabilityIndex(towns);
+
+        SplittableRandom random = new SplittableRandom(seed);
+        from = new int[QUERIES];
+        to = new int[QUERIES];
+        for (int i = 0; i < QUERIES; i++) {
+            from[i] = 1 + random.nextInt(size);
+            to[i] = 1 + random.nextInt(size);
+        }
+    }
+
+    @Benchmark
+    public ReachabilityIndex buildReachabilityIndex() {
+        return new ReachabilityIndex(graph);
+    }
+
+    @Benchmark
+    public int reachabilityIndexQueries() {
+        int reachable = 0;
+        for (int i = 0; i < QUERIES; i++) {
+            if (index.reachable(from[i] - 1, to[i] - 1)) reachable++;
+        }
+        return reachable;
+    }
+
+    @Benchmark
+    public int reachableTown() {
+        return ReachableTown.isTownReachable(towns, to[0], from[0]);
+    }
+
+    @Benchmark
+    public TownReachabilityIndex buildTownIndex() {
+        return new TownReachabilityIndex(towns);
+    }
+
+    @Benchmark
+    public int[] townIndexQueries() {
+        return townIndex.isTownReachable(to, from);
+    }
+}
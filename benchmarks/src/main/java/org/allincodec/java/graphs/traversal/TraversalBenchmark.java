@@ -0,0 +1,123 @@
+package org.allincodec.java.graphs.traversal;
+
+import org.allincodec.bench.EdgeList;
+import org.allincodec.bench.GraphGenerators;
+import org.allincodec.bench.GraphGenerators.Shape;
+import org.allincodec.java.graphs.CompressedGraph;
+import org.allincodec.java.graphs.CsrGraph;
+import org.allincodec.java.graphs.VertexReordering;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full single-source traversals from vertex 0 over the generated shapes, optionally after a
+ * {@link VertexReordering}.
+ *
+ * <p>The recursive {@code DFS.depthFirstSearch} and the printing
+ * {@code BFS.breadthFirstTraversal} are not measured: the first overflows the stack on a long
+ * chain and the second measures {@code System.out}. {@link IterativeDFS} and
+ * {@link BFS#breadthFirstOrder} are their allocation-free counterparts.</p>
+ *
+ * <p>{@code CHAIN} stays in the parameter set for {@link #parallelBfs} on purpose: with one
+ * level per vertex it is the worst case for a level-synchronous search and shows the per-level
+ * overhead. Each level costs only its own frontier, so a 10^7 chain takes well under a second
+ * per operation (about 10x {@code bfs}). A regression back to scanning every bitset word per
+ * level turns that into hours and will show up here first.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TraversalBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"RMAT", "CHAIN", "STAR"})
+    Shape shape;
+
+    @Param("8")
+    int edgeFactor;
+
+    @Param("42")
+    long seed;
+
+    /**
+     * {@code NONE} or a {@link VertexReordering.Strategy} applied before measuring, e.g.
+     * {@code -p reorder=NONE,BFS,RCM,DEGREE}.
+     */
+    @Param("NONE")
+    String reorder;
+
+    private CsrGraph graph;
+    private CompressedGraph compressed;
+    private int source;
+    private ParallelBFS parallelBfs;
+    private IterativeDFS dfs;
+    private int[] order;
+    private boolean[] visited;
+
+    @Setup
+    public void setUp() {
+        EdgeList edges = GraphGenerators.generate(shape, size, edgeFactor, seed);
+        graph = edges.toCsr();
+        if (!reorder.equals("NONE")) {
+            VertexReordering reordering = VertexReordering.of(graph, VertexReordering.Strategy.valueOf(reorder));
+            graph = reordering.graph();
+            source = reordering.toNew(0);
+        }
+        compressed = CompressedGraph.compress(graph);
+        parallelBfs = new ParallelBFS(graph);
+        dfs = new IterativeDFS(graph);
+        order = new int[size];
+        visited = new boolean[size];
+    }
+
+    @Benchmark
+    public int bfs() {
+        Arrays.fill(visited, false);
+        return BFS.breadthFirstOrder(graph, source, order, visited);
+    }
+
+    @Benchmark
+    public int compressedBfs() {
+        Arrays.fill(visited, false);
+        return compressed.breadthFirstOrder(source, order, visited);
+    }
+
+    @Benchmark
+    public ParallelBFS.Result parallelBfs() {
+        return parallelBfs.search(source);
+    }
+
+    @Benchmark
+    public void iterativeDfs(Blackhole blackhole) {
+        dfs.reset();
+        dfs.search(source, new DfsVisitor() {
+            @Override
+            public void preVisit(int v) {
+                blackhole.consume(v);
+            }
+        });
+    }
+
+    @Benchmark
+    public long lazyBfs() {
+        return LazyTraversal.bfs(graph, source).stream().count();
+    }
+}
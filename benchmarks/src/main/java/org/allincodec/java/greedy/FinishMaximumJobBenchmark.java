@@ -0,0 +1,52 @@
+package org.allincodec.java.greedy;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FinishMaximumJob#maxNonOverlappingJobs} on random jobs in {@code [1, 10^9]}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FinishMaximumJobBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param("1000000")
+    int maxLength;
+
+    @Param("42")
+    long seed;
+
+    private int[] starts;
+    private int[] finishes;
+
+    @Setup
+    public void setUp() {
+        int[][] jobs = DataGenerators.jobs(size, 1_000_000_000, maxLength, seed);
+        starts = jobs[0];
+        finishes = jobs[1];
+    }
+
+    @Benchmark
+    public int maxNonOverlappingJobs() {
+        return FinishMaximumJob.maxNonOverlappingJobs(starts, finishes);
+    }
+}
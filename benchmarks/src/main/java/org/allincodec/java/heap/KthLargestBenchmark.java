@@ -0,0 +1,51 @@
+package org.allincodec.java.heap;
+
+import org.allincodec.bench.DataGenerators;
+import org.allincodec.bench.DataGenerators.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link KthLargest#KthLargestElement} for a small and a large {@code k}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class KthLargestBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1", "100"})
+    int k;
+
+    @Param("42")
+    long seed;
+
+    private List<Integer> values;
+
+    @Setup
+    public void setUp() {
+        values = DataGenerators.boxed(DataGenerators.ints(size, Integer.MAX_VALUE, Distribution.UNIFORM, 0, seed));
+    }
+
+    @Benchmark
+    public int kthLargest() {
+        return KthLargest.KthLargestElement(values, k);
+    }
+}
@@ -0,0 +1,74 @@
+package org.allincodec.java.queue;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First non-repeating character: {@link UniqueLetter#solve} on one string against
+ * {@link FirstUniqueEngine} routing the same code points over many keyed streams.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FirstUniqueBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1000"})
+    int streams;
+
+    @Param("42")
+    long seed;
+
+    private String text;
+    private int[] codePoints;
+    private long[] keys;
+
+    @Setup
+    public void setUp() {
+        // Zipf-distributed code points over Latin, Cyrillic and CJK blocks.
+        int[] ranks = DataGenerators.ints(size, 4096, DataGenerators.Distribution.ZIPF, 1.1, seed);
+        codePoints = new int[size];
+        StringBuilder sb = new StringBuilder(size);
+        for (int i = 0; i < size; i++) {
+            int rank = ranks[i];
+            codePoints[i] = rank < 128 ? 'a' + rank % 26 : rank < 1024 ? 0x0400 + rank % 256 : 0x4E00 + rank;
+            sb.appendCodePoint(codePoints[i]);
+        }
+        text = sb.toString();
+        SplittableRandom random = new SplittableRandom(seed);
+        keys = new long[size];
+        for (int i = 0; i < size; i++) keys[i] = random.nextInt(streams);
+    }
+
+    @Benchmark
+    public String singleString() {
+        return new UniqueLetter().solve(text);
+    }
+
+    @Benchmark
+    public void keyedStreams(Blackhole bh) {
+        FirstUniqueEngine engine = new FirstUniqueEngine();
+        for (int i = 0; i < codePoints.length; i++) {
+            bh.consume(engine.accept(keys[i], codePoints[i]));
+        }
+    }
+}
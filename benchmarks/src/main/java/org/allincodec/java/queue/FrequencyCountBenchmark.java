@@ -0,0 +1,57 @@
+package org.allincodec.java.queue;
+
+import org.allincodec.bench.DataGenerators;
+import org.allincodec.bench.DataGenerators.Distribution;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link FrequencyCount#solve} on uniform and Zipf-skewed values. The number of distinct
+ * values is {@code size / 10}, so the heap holds far fewer entries than the input.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class FrequencyCountBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"UNIFORM", "ZIPF"})
+    Distribution distribution;
+
+    @Param("1.1")
+    double skew;
+
+    @Param("42")
+    long seed;
+
+    private final FrequencyCount frequencyCount = new FrequencyCount();
+    private List<Integer> values;
+
+    @Setup
+    public void setUp() {
+        int range = Math.max(size / 10, 1);
+        values = DataGenerators.boxed(DataGenerators.ints(size, range, distribution, skew, seed));
+    }
+
+    @Benchmark
+    public List<Integer> solve() {
+        return frequencyCount.solve(values);
+    }
+}
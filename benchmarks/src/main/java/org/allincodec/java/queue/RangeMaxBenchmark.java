@@ -0,0 +1,78 @@
+package org.allincodec.java.queue;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A batch of random {@code [l, r]} range-max queries: a scan per query against
+ * {@link SparseTableMax} and {@link SegmentTreeMax}, each including its build.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class RangeMaxBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"1000"})
+    int queries;
+
+    @Param("42")
+    long seed;
+
+    private int[] values;
+    private int[] lefts;
+    private int[] rights;
+
+    @Setup
+    public void setUp() {
+        values = DataGenerators.signedInts(size, 1 << 30, seed);
+        SplittableRandom random = new SplittableRandom(seed);
+        lefts = new int[queries];
+        rights = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            int a = random.nextInt(size);
+            int b = random.nextInt(size);
+            lefts[q] = Math.min(a, b);
+            rights[q] = Math.max(a, b);
+        }
+    }
+
+    @Benchmark
+    public int[] scan() {
+        int[] result = new int[queries];
+        for (int q = 0; q < queries; q++) {
+            int max = Integer.MIN_VALUE;
+            for (int i = lefts[q]; i <= rights[q]; i++) max = Math.max(max, values[i]);
+            result[q] = max;
+        }
+        return result;
+    }
+
+    @Benchmark
+    public int[] sparseTable() {
+        return new SparseTableMax(values).max(lefts, rights);
+    }
+
+    @Benchmark
+    public int[] segmentTree() {
+        return new SegmentTreeMax(values).max(lefts, rights);
+    }
+}
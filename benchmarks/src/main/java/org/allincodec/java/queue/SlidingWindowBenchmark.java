@@ -0,0 +1,80 @@
+package org.allincodec.java.queue;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sliding-window maximum: {@link ParkingIceCreamTruck#slidingMaximum} over the whole array
+ * against {@link SlidingExtremes} fed one value at a time and the block-decomposed
+ * {@link BlockSlidingMaximum}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class SlidingWindowBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"16", "1024", "65536"})
+    int window;
+
+    @Param("42")
+    long seed;
+
+    private int[] values;
+    private ParkingIceCreamTruck truck;
+    private BlockSlidingMaximum block;
+
+    @Setup
+    public void setUp() {
+        values = DataGenerators.signedInts(size, 1 << 30, seed);
+        truck = new ParkingIceCreamTruck();
+        block = new BlockSlidingMaximum();
+    }
+
+    @Benchmark
+    public int[] arrayDeque() {
+        return truck.slidingMaximum(values, window);
+    }
+
+    @Benchmark
+    public int[] blocks() {
+        return block.slidingMaximum(values, window);
+    }
+
+    @Benchmark
+    public void streaming(Blackhole bh) {
+        SlidingExtremes extremes = new SlidingExtremes(window);
+        for (int value : values) {
+            if (extremes.accept(value)) bh.consume(extremes.max());
+        }
+    }
+
+    @Benchmark
+    public void streamingMaxAndMin(Blackhole bh) {
+        SlidingExtremes extremes = new SlidingExtremes(window, (start, max, min) -> {
+            bh.consume(max);
+            bh.consume(min);
+        });
+        for (int value : values) {
+            extremes.accept(value);
+        }
+    }
+}
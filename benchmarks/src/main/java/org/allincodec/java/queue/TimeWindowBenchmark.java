@@ -0,0 +1,76 @@
+package org.allincodec.java.queue;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link TimeWindowAggregator} with 1s/10s/60s windows against one {@link SlidingExtremes}
+ * per window, on an event every millisecond.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class TimeWindowBenchmark {
+
+    private static final long[] WINDOWS = {1_000, 10_000, 60_000};
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param("42")
+    long seed;
+
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        values = DataGenerators.signedInts(size, 1 << 20, seed);
+    }
+
+    @Benchmark
+    public void aggregator(Blackhole bh) {
+        TimeWindowAggregator aggregator = new TimeWindowAggregator(WINDOWS);
+        for (int t = 0; t < values.length; t++) {
+            aggregator.accept(t, values[t]);
+            if (t % 1000 == 999) {
+                for (int w = 0; w < WINDOWS.length; w++) {
+                    bh.consume(aggregator.max(w));
+                    bh.consume(aggregator.min(w));
+                    bh.consume(aggregator.sum(w));
+                    bh.consume(aggregator.percentile(w, 0.99));
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void extremesPerWindow(Blackhole bh) {
+        SlidingExtremes[] extremes = new SlidingExtremes[WINDOWS.length];
+        for (int w = 0; w < WINDOWS.length; w++) extremes[w] = new SlidingExtremes((int) WINDOWS[w]);
+        for (int t = 0; t < values.length; t++) {
+            for (SlidingExtremes e : extremes) e.accept(values[t]);
+            if (t % 1000 == 999) {
+                for (SlidingExtremes e : extremes) {
+                    bh.consume(e.max());
+                    bh.consume(e.min());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.allincodec.java.slidingWindow;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link RepeatedSequences#repeatedSequences} on generated DNA with copied stretches.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+public class RepeatedSequencesBenchmark {
+
+    @Param({"1000", "100000", "10000000"})
+    int size;
+
+    @Param({"10", "31"})
+    int k;
+
+    @Param("0.01")
+    double repeatRate;
+
+    @Param("42")
+    long seed;
+
+    private String dna;
+
+    @Setup
+    public void setUp() {
+        dna = DataGenerators.dna(size, repeatRate, seed);
+    }
+
+    @Benchmark
+    public List<String> repeatedSequences() {
+        return RepeatedSequences.repeatedSequences(dna, k);
+    }
+}
@@ -0,0 +1,55 @@
+package org.allincodec.twopointer;
+
+import org.allincodec.bench.DataGenerators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link ThreeSum#threeSum}. It is O(n^2), so sizes stop at 10^5 by default. The input is
+ * sorted in place, so every operation starts from a fresh copy; the copy is part of the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ThreeSumBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    int size;
+
+    /**
+     * Values are drawn from {@code [-range, range]}. The wide default keeps the number of
+     * zero-sum triplets, and with it the size of the returned list, small at every size.
+     */
+    @Param("1000000000")
+    int range;
+
+    @Param("42")
+    long seed;
+
+    private int[] values;
+
+    @Setup
+    public void setUp() {
+        values = DataGenerators.signedInts(size, range, seed);
+    }
+
+    @Benchmark
+    public List<List<Integer>> threeSum() {
+        return ThreeSum.threeSum(values.clone());
+    }
+}
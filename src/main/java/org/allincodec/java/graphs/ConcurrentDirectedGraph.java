@@ -0,0 +1,192 @@
+package org.allincodec.java.graphs;
+
+import org.allincodec.java.graphs.traversal.BFS;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe directed graph for concurrent ingest, with point-in-time snapshots for readers.
+ *
+ * <h3>Writers</h3>
+ * <p>Vertex {@code v} belongs to lock stripe {@code v & (stripes - 1)}. {@link #addEdge} locks
+ * only the stripe of its source vertex, so writers touching different stripes run in
+ * parallel. Each vertex keeps an append-only {@code int[]} of {@code (target, sequence)} pairs,
+ * where the sequence number comes from one global ticket counter.</p>
+ *
+ * <h3>Readers</h3>
+ * <p>{@link #snapshot()} reads the ticket counter once, giving a cut {@code S}, and then copies
+ * every edge whose sequence is below {@code S} into a {@link CsrGraph}. It never takes a lock:
+ * </p>
+ * <ul>
+ *   <li>entries are never moved or overwritten, and each list length is published with a
+ *   volatile write after its entry is stored, so readers never see torn lists;</li>
+ *   <li>every stripe advertises the ticket of the write it has in flight; a reader only spins
+ *   (briefly) when that ticket is below its cut, which is the one case where an edge that
+ *   belongs in the snapshot may not be published yet.</li>
+ * </ul>
+ * <p>The result is exactly the graph made of the first {@code S} edges ever added, no matter
+ * how many writers keep running, and any traversal can run on it without further locking.</p>
+ *
+ * <pre>
+ * ConcurrentDirectedGraph g = new ConcurrentDirectedGraph(1_000_000);
+ * ingestThreads.forEach(t -&gt; t.submit(() -&gt; g.addEdge(src, dest)));
+ * CsrGraph view = g.snapshot();   // consistent, immutable
+ * </pre>
+ *
+ * Time Complexity: amortized O(1) per edge insert, O(V + E) per snapshot
+ * Space Complexity: O(V + E), 8 bytes per edge while live
+ */
+public final class ConcurrentDirectedGraph {
+
+    private static final int IDLE = -1;
+    private static final int ACQUIRING = Integer.MIN_VALUE;
+
+    private final int vertices;
+    private final int stripeMask;
+    private final ReentrantLock[] locks;
+    private final AtomicIntegerArray inFlight;
+    private final AtomicReferenceArray<int[]> lists;
+    private final AtomicIntegerArray lengths;
+    private final AtomicInteger ticket = new AtomicInteger();
+
+    public ConcurrentDirectedGraph(int vertices) {
+        this(vertices, 64);
+    }
+
+    /**
+     * @param stripes number of lock stripes, rounded up to a power of two
+     */
+    public ConcurrentDirectedGraph(int vertices, int stripes) {
+        int size = 1;
+        while (size < stripes) size <<= 1;
+        this.vertices = vertices;
+        this.stripeMask = size - 1;
+        this.locks = new ReentrantLock[size];
+        this.inFlight = new AtomicIntegerArray(size);
+        for (int i = 0; i < size; i++) {
+            locks[i] = new ReentrantLock();
+            inFlight.set(i, IDLE);
+        }
+        this.lists = new AtomicReferenceArray<>(vertices);
+        this.lengths = new AtomicIntegerArray(vertices);
+    }
+
+    public int vertices() {
+        return vertices;
+    }
+
+    /**
+     * Number of edges added so far, including any still being published.
+     */
+    public int edges() {
+        return ticket.get();
+    }
+
+    public void addEdge(int src, int dest) {
+        if (src < 0 || src >= vertices || dest < 0 || dest >= vertices) {
+            return;
+        }
+        int stripe = src & stripeMask;
+        ReentrantLock lock = locks[stripe];
+        lock.lock();
+        try {
+            // Advertise before taking a ticket so a reader can never miss this write.
+            inFlight.set(stripe, ACQUIRING);
+            int sequence = ticket.getAndIncrement();
+            inFlight.set(stripe, sequence);
+
+            int length = lengths.get(src);
+            int[] list = lists.get(src);
+            if (list == null) {
+                list = new int[4];
+                lists.set(src, list);
+            } else if (2 * length == list.length) {
+                list = Arrays.copyOf(list, list.length * 2);
+                lists.set(src, list);
+            }
+            list[2 * length] = dest;
+            list[2 * length + 1] = sequence;
+            lengths.set(src, length + 1);
+        } finally {
+            inFlight.set(stripe, IDLE);
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an immutable {@link CsrGraph} holding exactly the edges added before this call
+     * started. Never blocks writers.
+     */
+    public CsrGraph snapshot() {
+        int cut = ticket.get();
+        int[] offsets = new int[vertices + 1];
+        for (int v = 0; v < vertices; v++) {
+            awaitPublished(v & stripeMask, cut);
+            offsets[v + 1] = offsets[v] + countBefore(v, cut);
+        }
+        int[] targets = new int[offsets[vertices]];
+        for (int v = 0; v < vertices; v++) {
+            int length = lengths.get(v);
+            int[] list = lists.get(v);
+            int e = offsets[v];
+            for (int i = 0; i < length; i++) {
+                if (list[2 * i + 1] < cut) {
+                    targets[e++] = list[2 * i];
+                }
+            }
+        }
+        return new CsrGraph(offsets, targets);
+    }
+
+    private void awaitPublished(int stripe, int cut) {
+        int sequence = inFlight.get(stripe);
+        while (sequence != IDLE && sequence < cut) {
+            Thread.onSpinWait();
+            sequence = inFlight.get(stripe);
+        }
+    }
+
+    private int countBefore(int v, int cut) {
+        int length = lengths.get(v);
+        int[] list = lists.get(v);
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (list[2 * i + 1] < cut) count++;
+        }
+        return count;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        int n = 10_000;
+        int writers = 4;
+        int edgesPerWriter = 50_000;
+        ConcurrentDirectedGraph graph = new ConcurrentDirectedGraph(n);
+
+        Thread[] threads = new Thread[writers];
+        for (int w = 0; w < writers; w++) {
+            int seed = w;
+            threads[w] = new Thread(() -> {
+                Random random = new Random(seed);
+                for (int i = 0; i < edgesPerWriter; i++) {
+                    graph.addEdge(random.nextInt(n), random.nextInt(n));
+                }
+            });
+            threads[w].start();
+        }
+
+        CsrGraph during = graph.snapshot();
+        for (Thread t : threads) t.join();
+        CsrGraph after = graph.snapshot();
+
+        int[] order = new int[n];
+        int reached = BFS.breadthFirstOrder(after, 0, order, new boolean[n]);
+        System.out.println("Snapshot while writing: " + during.edges() + " edges");
+        System.out.println("Snapshot after writing: " + after.edges() + " edges"); // Expected: 200000
+        System.out.println("Reachable from 0: " + reached);
+    }
+}
@@ -1,7 +1,6 @@
 package org.allincodec.java.graphs;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 /**
  * Represents a directed graph data structure where nodes are connected by directed edges.
@@ -14,43 +13,171 @@ import java.util.List;
  * It is designed to be used in applications such as dependency resolution,
  * network routing, and graph-based analysis.
  *
+ * <p>Adjacency lists live in one {@link IntDoublyLinkedList} arena, one list per vertex,
+ * so an edge costs 12 bytes and no objects; {@link #removeEdge} unlinks in O(degree).</p>
+ *
+ * <p>Not thread-safe: concurrent {@link #addEdge} calls can corrupt the adjacency lists.
+ * Use {@link ConcurrentDirectedGraph} when ingest and query threads share one graph.</p>
  */
 public class DirectedGraph {
     int vertices;
-    List<DoublyLinkedList<Integer>> adjacencyList;
+    IntDoublyLinkedList adjacencyList;
+    IntDoublyLinkedList reverseAdjacencyList;
+    double[] weights;
 
     public int vertices() {
         return vertices;
     }
 
-    public List<DoublyLinkedList<Integer>> adjacencyList() {
+    /**
+     * Out-edge lists; list {@code v} holds the out-neighbours of {@code v}.
+     */
+    public IntDoublyLinkedList adjacencyList() {
         return adjacencyList;
     }
 
+    /**
+     * In-edge lists, list {@code v} holding every {@code u} with an edge {@code u -> v};
+     * null unless the graph was created with {@code trackInEdges}.
+     */
+    public IntDoublyLinkedList reverseAdjacencyList() {
+        return reverseAdjacencyList;
+    }
+
+    public boolean tracksInEdges() {
+        return reverseAdjacencyList != null;
+    }
+
     public DirectedGraph(int vertices) {
-        this.vertices = vertices;
-        this.adjacencyList = new ArrayList<>(vertices);
+        this(vertices, false);
+    }
 
-        for(int i = 0; i < vertices; i++) {
-            adjacencyList.add(new DoublyLinkedList<>());
+    /**
+     * @param trackInEdges also maintain in-edge lists, doubling per-edge memory, so that
+     *                     backward and bidirectional searches need no transpose
+     */
+    public DirectedGraph(int vertices, boolean trackInEdges) {
+        this.vertices = vertices;
+        this.adjacencyList = new IntDoublyLinkedList(vertices);
+        if (trackInEdges) {
+            this.reverseAdjacencyList = new IntDoublyLinkedList(vertices);
         }
     }
 
     public void addEdge(int src, int dest) {
         if(src < vertices && dest < vertices ) {
-            adjacencyList.get(src).insertAtTail(dest);
+            int node = adjacencyList.insertAtTail(src, dest);
+            if (weights != null && node < weights.length) {
+                weights[node] = 1.0;
+            }
+            if (reverseAdjacencyList != null) {
+                reverseAdjacencyList.insertAtTail(dest, src);
+            }
+        }
+    }
+
+    /**
+     * Adds a weighted edge. Weights are kept in a {@code double[]} indexed by the edge's node
+     * handle in {@link #adjacencyList()}; edges added without a weight weigh 1.
+     *
+     * @throws IllegalArgumentException if {@code weight} is negative or NaN
+     */
+    public void addEdge(int src, int dest, double weight) {
+        if (!(weight >= 0)) {
+            throw new IllegalArgumentException("Edge weight must be non-negative: " + weight);
+        }
+        if(src < vertices && dest < vertices ) {
+            int node = adjacencyList.insertAtTail(src, dest);
+            if (weights == null) {
+                weights = new double[Math.max(16, node + 1)];
+                Arrays.fill(weights, 1.0);
+            } else if (node >= weights.length) {
+                int old = weights.length;
+                weights = Arrays.copyOf(weights, Math.max(node + 1, old + (old >> 1)));
+                Arrays.fill(weights, old, weights.length, 1.0);
+            }
+            weights[node] = weight;
+            if (reverseAdjacencyList != null) {
+                reverseAdjacencyList.insertAtTail(dest, src);
+            }
+        }
+    }
+
+    /**
+     * Weight of the edge stored at {@code node} in {@link #adjacencyList()}.
+     */
+    public double weight(int node) {
+        return weights == null || node >= weights.length ? 1.0 : weights[node];
+    }
+
+    /**
+     * Removes one edge {@code src -> dest}, if present.
+     *
+     * @return true if an edge was removed
+     */
+    public boolean removeEdge(int src, int dest) {
+        if (src >= vertices || dest >= vertices || !adjacencyList.removeFirst(src, dest)) {
+            return false;
+        }
+        if (reverseAdjacencyList != null) {
+            reverseAdjacencyList.removeFirst(dest, src);
+        }
+        return true;
+    }
+
+    /**
+     * Packs the current adjacency lists into an immutable {@link CsrGraph}. Later calls to
+     * {@link #addEdge(int, int)} are not reflected in the returned snapshot.
+     */
+    public CsrGraph freeze() {
+        return pack(adjacencyList, weights != null);
+    }
+
+    /**
+     * Packs the in-edge lists into an immutable {@link CsrGraph}: the reverse of
+     * {@link #freeze()}. Uses the tracked in-edge lists when present and a transpose otherwise;
+     * weighted graphs are always transposed so the weights follow their edges.
+     */
+    public CsrGraph freezeReverse() {
+        return reverseAdjacencyList != null && weights == null
+                ? pack(reverseAdjacencyList, false)
+                : freeze().transpose();
+    }
+
+    /**
+     * Freezes the graph and relabels its vertices for cache locality; see
+     * {@link VertexReordering} for the strategies and for mapping ids back.
+     */
+    public VertexReordering reorder(VertexReordering.Strategy strategy) {
+        return VertexReordering.of(freeze(), strategy);
+    }
+
+    private CsrGraph pack(IntDoublyLinkedList lists, boolean withWeights) {
+        int[] offsets = new int[vertices + 1];
+        for (int i = 0; i < vertices; i++) {
+            offsets[i + 1] = offsets[i] + lists.size(i);
+        }
+        int[] targets = new int[offsets[vertices]];
+        double[] packedWeights = withWeights ? new double[offsets[vertices]] : null;
+        for (int i = 0; i < vertices; i++) {
+            int e = offsets[i];
+            for (int node = lists.head(i); node != IntDoublyLinkedList.NIL; node = lists.next(node)) {
+                targets[e] = lists.value(node);
+                if (withWeights) packedWeights[e] = weight(node);
+                e++;
+            }
         }
+        return new CsrGraph(offsets, targets, packedWeights);
     }
 
     public void printGraph() {
         for(int i = 0; i < vertices; i++) {
-            DoublyLinkedList<Integer> list = adjacencyList.get(i);
-            if(!list.isEmpty()) {
+            if(!adjacencyList.isEmpty(i)) {
                 System.out.print("| " + i + " | =>");
-                DoublyLinkedList<Integer>.Node node = list.head();
-                while (node != null) {
-                    System.out.print(" [" + node.data() + "] -> ");
-                    node = node.nextNode();
+                int node = adjacencyList.head(i);
+                while (node != IntDoublyLinkedList.NIL) {
+                    System.out.print(" [" + adjacencyList.value(node) + "] -> ");
+                    node = adjacencyList.next(node);
                 }
                 System.out.println("null");
             } else {
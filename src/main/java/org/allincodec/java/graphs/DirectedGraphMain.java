@@ -3,6 +3,8 @@ package org.allincodec.java.graphs;
 import org.allincodec.java.graphs.traversal.BFS;
 import org.allincodec.java.graphs.traversal.DFS;
 
+import java.util.Arrays;
+
 public class DirectedGraphMain {
 
     public static void main(String[] args) {
@@ -25,5 +27,17 @@ public class DirectedGraphMain {
         DFS dfs = new DFS();
         System.out.print("DFS Traversal: ");
         dfs.depthFirstSearch(dg, 4, new boolean[dg.vertices()]);
+        System.out.println();
+
+        CsrGraph csr = dg.freeze();
+        int[] order = new int[csr.vertices()];
+        int reached = BFS.breadthFirstOrder(csr, 0, order, new boolean[csr.vertices()]);
+        System.out.println("CSR BFS Order: " + Arrays.toString(Arrays.copyOf(order, reached)));
+        reached = DFS.depthFirstOrder(csr, 4, order, new boolean[csr.vertices()]);
+        System.out.println("CSR DFS Order: " + Arrays.toString(Arrays.copyOf(order, reached)));
+
+        dg.removeEdge(0, 4);
+        System.out.println(">> After removing 0 -> 4 <<");
+        dg.printGraph();
     }
 }
@@ -0,0 +1,103 @@
+package org.allincodec.java.graphs;
+
+import java.util.Arrays;
+
+/**
+ * Growable list of primitive {@code int}s backed by a single array; the unboxed counterpart of
+ * {@code ArrayList<Integer>}. An element costs 4 bytes instead of a 16 byte {@code Integer}
+ * plus a 4 byte reference.
+ *
+ * Time Complexity: amortized O(1) add, O(1) get/set/removeLast, O(1) swap-remove
+ * Space Complexity: O(capacity)
+ */
+public final class IntArrayList {
+
+    private int[] elements;
+    private int size;
+
+    public IntArrayList() {
+        this(8);
+    }
+
+    public IntArrayList(int initialCapacity) {
+        this.elements = new int[Math.max(initialCapacity, 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void add(int value) {
+        if (size == elements.length) {
+            elements = Arrays.copyOf(elements, size + (size >> 1) + 1);
+        }
+        elements[size++] = value;
+    }
+
+    public void addAll(int[] values, int from, int to) {
+        int count = to - from;
+        if (size + count > elements.length) {
+            elements = Arrays.copyOf(elements, Math.max(size + count, size + (size >> 1) + 1));
+        }
+        System.arraycopy(values, from, elements, size, count);
+        size += count;
+    }
+
+    public int get(int index) {
+        checkIndex(index);
+        return elements[index];
+    }
+
+    public void set(int index, int value) {
+        checkIndex(index);
+        elements[index] = value;
+    }
+
+    public int removeLast() {
+        if (size == 0) throw new IllegalStateException("list is empty");
+        return elements[--size];
+    }
+
+    /**
+     * Removes the element at {@code index} in O(1) by moving the last element into its place.
+     * Does not preserve order.
+     *
+     * @return the removed value
+     */
+    public int swapRemove(int index) {
+        checkIndex(index);
+        int removed = elements[index];
+        elements[index] = elements[--size];
+        return removed;
+    }
+
+    public int indexOf(int value) {
+        for (int i = 0; i < size; i++) {
+            if (elements[i] == value) return i;
+        }
+        return -1;
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(elements, size);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
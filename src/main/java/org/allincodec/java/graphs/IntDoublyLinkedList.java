@@ -0,0 +1,221 @@
+package org.allincodec.java.graphs;
+
+import java.util.Arrays;
+
+/**
+ * Any number of doubly linked lists of primitive {@code int}s sharing one node arena.
+ *
+ * <p>{@link DoublyLinkedList} allocates a {@code Node} object with two references and a boxed
+ * value for every element, roughly 40+ bytes. Here a node is just an index into three parallel
+ * arrays ({@code value}, {@code next}, {@code prev}), 12 bytes in total, and links are indices
+ * rather than references. Lists are addressed by a list index, so a graph keeps one list per
+ * vertex in a single instance and pays only {@code head}/{@code tail}/{@code size} per vertex.</p>
+ *
+ * <pre>
+ * list 0: 7 &lt;-&gt; 3        node:   0  1  2  3
+ * list 1: 5              value:  7  5  3  -
+ *                        next:   2  -1 -1 (free)
+ * head = [0, 1]          prev:   -1 -1 0
+ * </pre>
+ *
+ * <p>Insertions return a node handle that stays valid until the node is removed, so a
+ * caller can remove that element later in O(1). Removed nodes go on a free list and are
+ * reused by later insertions. Iterate without allocating:</p>
+ *
+ * <pre>
+ * for (int node = lists.head(v); node != IntDoublyLinkedList.NIL; node = lists.next(node)) {
+ *     int w = lists.value(node);
+ * }
+ * </pre>
+ *
+ * Time Complexity: amortized O(1) insert at head/tail, O(1) remove by handle
+ * Space Complexity: 12 bytes per node, 12 bytes per list
+ */
+public final class IntDoublyLinkedList {
+
+    public static final int NIL = -1;
+
+    private final int[] head;
+    private final int[] tail;
+    private final int[] size;
+
+    private int[] value;
+    private int[] next;
+    private int[] prev;
+    private int nodes;
+    private int freeList = NIL;
+
+    public IntDoublyLinkedList(int lists) {
+        this(lists, 16);
+    }
+
+    public IntDoublyLinkedList(int lists, int expectedNodes) {
+        this.head = new int[lists];
+        this.tail = new int[lists];
+        this.size = new int[lists];
+        Arrays.fill(head, NIL);
+        Arrays.fill(tail, NIL);
+        int capacity = Math.max(expectedNodes, 1);
+        this.value = new int[capacity];
+        this.next = new int[capacity];
+        this.prev = new int[capacity];
+    }
+
+    public int lists() {
+        return head.length;
+    }
+
+    public int head(int list) {
+        return head[list];
+    }
+
+    public int tail(int list) {
+        return tail[list];
+    }
+
+    public int size(int list) {
+        return size[list];
+    }
+
+    public boolean isEmpty(int list) {
+        return head[list] == NIL;
+    }
+
+    public int value(int node) {
+        return value[node];
+    }
+
+    public int next(int node) {
+        return next[node];
+    }
+
+    public int prev(int node) {
+        return prev[node];
+    }
+
+    /**
+     * @return the handle of the new node
+     */
+    public int insertAtHead(int list, int data) {
+        int node = allocate(data);
+        next[node] = head[list];
+        prev[node] = NIL;
+        if (head[list] != NIL) {
+            prev[head[list]] = node;
+        } else {
+            tail[list] = node;
+        }
+        head[list] = node;
+        size[list]++;
+        return node;
+    }
+
+    /**
+     * @return the handle of the new node
+     */
+    public int insertAtTail(int list, int data) {
+        int node = allocate(data);
+        prev[node] = tail[list];
+        next[node] = NIL;
+        if (tail[list] != NIL) {
+            next[tail[list]] = node;
+        } else {
+            head[list] = node;
+        }
+        tail[list] = node;
+        size[list]++;
+        return node;
+    }
+
+    /**
+     * Unlinks {@code node} from {@code list} and recycles it. The handle must belong to that
+     * list and must not be used afterwards.
+     */
+    public void remove(int list, int node) {
+        if (prev[node] != NIL) {
+            next[prev[node]] = next[node];
+        } else {
+            head[list] = next[node];
+        }
+        if (next[node] != NIL) {
+            prev[next[node]] = prev[node];
+        } else {
+            tail[list] = prev[node];
+        }
+        size[list]--;
+        next[node] = freeList;
+        freeList = node;
+    }
+
+    /**
+     * Removes the first node holding {@code data} from {@code list}.
+     *
+     * @return true if a node was removed
+     */
+    public boolean removeFirst(int list, int data) {
+        for (int node = head[list]; node != NIL; node = next[node]) {
+            if (value[node] == data) {
+                remove(list, node);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Copies {@code list} into {@code dest} starting at {@code offset}.
+     *
+     * @return the number of values copied
+     */
+    public int copyTo(int list, int[] dest, int offset) {
+        int i = offset;
+        for (int node = head[list]; node != NIL; node = next[node]) {
+            dest[i++] = value[node];
+        }
+        return i - offset;
+    }
+
+    private int allocate(int data) {
+        int node;
+        if (freeList != NIL) {
+            node = freeList;
+            freeList = next[node];
+        } else {
+            if (nodes == value.length) {
+                int capacity = nodes + (nodes >> 1) + 1;
+                value = Arrays.copyOf(value, capacity);
+                next = Arrays.copyOf(next, capacity);
+                prev = Arrays.copyOf(prev, capacity);
+            }
+            node = nodes++;
+        }
+        value[node] = data;
+        return node;
+    }
+
+    public void printList(int list) {
+        if (isEmpty(list)) return;
+        System.out.print("List \n null <-- ");
+        for (int node = head[list]; node != NIL; node = next[node]) {
+            System.out.print(value[node] + " <--> ");
+        }
+        System.out.print(" --> null");
+    }
+
+    public static void main(String[] args) {
+        IntDoublyLinkedList lists = new IntDoublyLinkedList(2);
+        lists.insertAtTail(0, 1);
+        int two = lists.insertAtTail(0, 2);
+        lists.insertAtTail(0, 3);
+        lists.insertAtHead(0, 0);
+        lists.insertAtTail(1, 9);
+        lists.remove(0, two);
+        lists.printList(0);
+        System.out.println();
+        lists.insertAtTail(0, 4); // reuses the node freed above
+        lists.printList(0);
+        System.out.println();
+        lists.printList(1);
+        System.out.println();
+    }
+}
@@ -0,0 +1,31 @@
+package org.allincodec.java.graphs;
+
+/**
+ * Read-only, primitive view of a directed graph with vertices numbered {@code 0..vertices()-1}.
+ *
+ * <p>Out-edges are numbered contiguously per vertex, CSR style: the out-neighbours of
+ * {@code v} are {@code target(e)} for every {@code edgeStart(v) <= e < edgeEnd(v)}.
+ * Traversals only need these few calls, so they never allocate per vertex or per edge.</p>
+ *
+ * <pre>
+ * for (int e = g.edgeStart(v); e &lt; g.edgeEnd(v); e++) {
+ *     int w = g.target(e);
+ * }
+ * </pre>
+ */
+public interface IntGraph {
+
+    int vertices();
+
+    int edges();
+
+    int edgeStart(int v);
+
+    int edgeEnd(int v);
+
+    int target(int e);
+
+    default int outDegree(int v) {
+        return edgeEnd(v) - edgeStart(v);
+    }
+}
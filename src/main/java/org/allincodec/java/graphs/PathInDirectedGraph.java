@@ -70,6 +70,13 @@ import java.util.*;
  * ✓ Perfect for reachability problems
  * </pre>
  *
+ * <p>When many queries run against the same edge list, build a {@link ReachabilityIndex}
+ * once with {@link #buildIndex(int, List)} instead of calling {@link #isDestReachable} for
+ * each pair. For single queries on a large sparse graph,
+ * {@link org.allincodec.java.graphs.traversal.BidirectionalBFS} searches from node 1 and
+ * node A at once and stops where the two searches meet. When edges arrive as a stream,
+ * {@link IncrementalReachability} keeps the answer up to date without restarting the BFS.</p>
+ *
  * @author Ankit Sharma
  * @version 1.0
  */
@@ -125,6 +132,20 @@ public class PathInDirectedGraph {
         return 0; // Destination not reachable
     }
 
+    /**
+     * Builds a reusable {@link ReachabilityIndex} for the graph described by A and B.
+     * Vertex ids are kept 1-based; vertex 0 is an unused isolated vertex.
+     *
+     * @implSpec Time Complexity: O(V + E) plus the closure build, see {@link ReachabilityIndex}
+     */
+    public static ReachabilityIndex buildIndex(int A, List<List<Integer>> B) {
+        CsrGraph.Builder builder = new CsrGraph.Builder(A + 1, B.size());
+        for (List<Integer> edge : B) {
+            builder.addEdge(edge.get(0), edge.get(1));
+        }
+        return new ReachabilityIndex(builder.build());
+    }
+
     public static void main(String[] args) {
         // Test Case 1: Simple path
         int A1 = 2;
@@ -154,5 +175,10 @@ public class PathInDirectedGraph {
             List.of(1, 3)
         );
         System.out.println("Test 3: " + isDestReachable(A3, B3)); // Expected: 0
+
+        // Repeated queries against one graph
+        ReachabilityIndex index = buildIndex(A3, B3);
+        System.out.println("Index 1 -> 5: " + index.reachable(1, 5)); // Expected: false
+        System.out.println("Index 5 -> 3: " + index.reachable(5, 3)); // Expected: true
     }
 }
@@ -56,6 +56,9 @@ import java.util.*;
  *   <li>Use BFS starting from town C</li>
  *   <li>Check if we can reach town B during traversal</li>
  * </ol>
+ *
+ * <p>This rebuilds the graph and runs a BFS for every query. When many (B, C) queries share
+ * the same A, build a {@link TownReachabilityIndex} once and answer each query in O(1).</p>
  */
 public class ReachableTown {
 
@@ -65,9 +68,10 @@ public class ReachableTown {
         int C = 1;
         // can we rach town B from town C
         System.out.println(isTownReachable(A, B, C));
+        System.out.println(new TownReachabilityIndex(A).isTownReachable(B, C));
     }
 
-    private static int isTownReachable(int[] A, int B, int C) {
+    static int isTownReachable(int[] A, int B, int C) {
         // build graph
         Map<Integer, List<Integer>> graph = new LinkedHashMap<>();
         for(int i=0; i < A.length; i++) {
@@ -0,0 +1,102 @@
+package org.allincodec.java.graphs;
+
+import org.allincodec.java.graphs.traversal.DfsVisitor;
+import org.allincodec.java.graphs.traversal.IterativeDFS;
+
+import java.util.Arrays;
+
+/**
+ * Reusable O(1) reachability index for the {@link ReachableTown} problem.
+ *
+ * <p>Because every edge goes from {@code A[i]} to {@code i + 1} with {@code A[i] <= i}, each
+ * town other than town 1 has exactly one incoming edge from a smaller town: the graph is a
+ * tree rooted at town 1. B is reachable from C exactly when C is an ancestor of B (or B itself),
+ * which an Euler tour answers with two comparisons.</p>
+ *
+ * <pre>
+ * A = [1, 1, 1, 2, 2]          1
+ *                             / \
+ * entry = [0, 1, 4, 2, 3]    2   3
+ * exit  = [4, 3, 4, 2, 3]   / \
+ *                          4   5
+ *
+ * C is an ancestor of B  &lt;=&gt;  entry[C] &lt;= entry[B] &lt;= exit[C]
+ * </pre>
+ *
+ * <p>{@code entry[v]} is the pre-order number of town {@code v} and {@code exit[v]} is the
+ * largest pre-order number inside its subtree. The tour runs on {@link IterativeDFS}, so
+ * chains of 10^5 towns do not overflow the stack.</p>
+ *
+ * Time Complexity: O(N) to build, O(1) per query
+ * Space Complexity: O(N)
+ */
+public final class TownReachabilityIndex {
+
+    private final int[] entry;
+    private final int[] exit;
+
+    public TownReachabilityIndex(int[] A) {
+        int n = A.length;
+        CsrGraph.Builder builder = new CsrGraph.Builder(n, Math.max(n - 1, 1));
+        for (int i = 1; i < n; i++) {
+            builder.addEdge(A[i] - 1, i);
+        }
+
+        this.entry = new int[n];
+        this.exit = new int[n];
+        new IterativeDFS(builder.build()).search(0, new DfsVisitor() {
+            int clock;
+
+            @Override
+            public void preVisit(int v) {
+                entry[v] = clock++;
+            }
+
+            @Override
+            public void postVisit(int v) {
+                exit[v] = clock - 1;
+            }
+        });
+    }
+
+    public int towns() {
+        return entry.length;
+    }
+
+    /**
+     * @param B destination town, 1-based
+     * @param C source town, 1-based
+     * @return 1 if B is reachable from C, otherwise 0
+     */
+    public int isTownReachable(int B, int C) {
+        int b = B - 1;
+        int c = C - 1;
+        return entry[c] <= entry[b] && entry[b] <= exit[c] ? 1 : 0;
+    }
+
+    /**
+     * Answers {@code B.length} queries at once; {@code result[i]} is
+     * {@code isTownReachable(B[i], C[i])}.
+     */
+    public int[] isTownReachable(int[] B, int[] C) {
+        if (B.length != C.length) {
+            throw new IllegalArgumentException("B and C must have the same length");
+        }
+        int[] result = new int[B.length];
+        for (int i = 0; i < B.length; i++) {
+            result[i] = isTownReachable(B[i], C[i]);
+        }
+        return result;
+    }
+
+    public static void main(String[] args) {
+        TownReachabilityIndex index = new TownReachabilityIndex(new int[]{1, 1, 2});
+        System.out.println(index.isTownReachable(1, 2)); // Expected: 0
+        System.out.println(index.isTownReachable(2, 1)); // Expected: 1
+
+        TownReachabilityIndex tree = new TownReachabilityIndex(new int[]{1, 1, 1, 2, 2});
+        System.out.println(Arrays.toString(tree.isTownReachable(
+                new int[]{4, 5, 3, 4, 1},
+                new int[]{1, 2, 2, 4, 5}))); // Expected: [1, 1, 0, 1, 0]
+    }
+}
@@ -0,0 +1,299 @@
+package org.allincodec.java.graphs;
+
+import org.allincodec.java.graphs.traversal.BFS;
+
+import java.util.Arrays;
+
+/**
+ * Relabels the vertices of a graph so that vertices visited together sit close together in
+ * memory, and keeps the maps needed to translate results back to the original ids.
+ *
+ * <p>Traversal cost on a large graph is dominated by cache misses on per-vertex arrays
+ * ({@code visited}, {@code dist}, {@code offsets}). With arbitrary ids the neighbours of a
+ * vertex are scattered over those arrays; after relabeling, a frontier touches a few
+ * contiguous ranges instead.</p>
+ *
+ * <ul>
+ *   <li>{@link Strategy#BFS}: ids in BFS discovery order over the out-edges, restarting from
+ *   the smallest unvisited old id. Each BFS level becomes one contiguous id range.</li>
+ *   <li>{@link Strategy#RCM}: reverse Cuthill-McKee on the graph with edge directions
+ *   ignored. A BFS from a minimum-degree vertex of each component, neighbours taken in
+ *   increasing degree, then reversed. It minimises bandwidth, so edges join nearby ids.</li>
+ *   <li>{@link Strategy#DEGREE}: decreasing total degree. The hubs, which most edges point
+ *   to, share a few hot cache lines at the start of every array.</li>
+ * </ul>
+ *
+ * <pre>
+ * VertexReordering reordering = VertexReordering.of(graph, Strategy.RCM);
+ * int[] dist = bfsDistances(reordering.graph(), reordering.toNew(source));
+ * int[] original = reordering.toOriginalOrder(dist);    // original[v] for old id v
+ * </pre>
+ *
+ * <p>Edge weights of a weighted {@link CsrGraph} are carried over.</p>
+ *
+ * Time Complexity: O(V + E) for BFS and DEGREE, O(V + E log d) for RCM (d = max degree)
+ * Space Complexity: O(V + E)
+ */
+public final class VertexReordering {
+
+    public enum Strategy { BFS, RCM, DEGREE }
+
+    private final int[] newId;
+    private final int[] oldId;
+    private final CsrGraph graph;
+
+    private VertexReordering(int[] newId, int[] oldId, CsrGraph graph) {
+        this.newId = newId;
+        this.oldId = oldId;
+        this.graph = graph;
+    }
+
+    public static VertexReordering of(IntGraph graph, Strategy strategy) {
+        int[] oldId = switch (strategy) {
+            case BFS -> bfsOrder(graph);
+            case RCM -> reverseCuthillMcKee(graph);
+            case DEGREE -> degreeOrder(graph);
+        };
+        int[] newId = new int[oldId.length];
+        for (int v = 0; v < oldId.length; v++) {
+            newId[oldId[v]] = v;
+        }
+        return new VertexReordering(newId, oldId, permute(graph, newId, oldId));
+    }
+
+    /**
+     * @return the relabeled graph; vertex {@code v} of it is vertex {@code toOld(v)} of the input
+     */
+    public CsrGraph graph() {
+        return graph;
+    }
+
+    public int toNew(int oldVertex) {
+        return newId[oldVertex];
+    }
+
+    public int toOld(int newVertex) {
+        return oldId[newVertex];
+    }
+
+    /**
+     * @return a copy of the forward map, {@code old id -> new id}
+     */
+    public int[] forward() {
+        return newId.clone();
+    }
+
+    /**
+     * @return a copy of the inverse map, {@code new id -> old id}
+     */
+    public int[] inverse() {
+        return oldId.clone();
+    }
+
+    /**
+     * Translates a per-vertex result computed on {@link #graph()} (indexed by new id) into one
+     * indexed by original id.
+     */
+    public int[] toOriginalOrder(int[] valuesByNewId) {
+        int[] result = new int[valuesByNewId.length];
+        for (int v = 0; v < valuesByNewId.length; v++) {
+            result[oldId[v]] = valuesByNewId[v];
+        }
+        return result;
+    }
+
+    /**
+     * Translates vertex ids (for example a BFS order or a path) from new ids to original ids.
+     */
+    public int[] toOriginalIds(int[] newVertices) {
+        int[] result = new int[newVertices.length];
+        for (int i = 0; i < newVertices.length; i++) {
+            result[i] = oldId[newVertices[i]];
+        }
+        return result;
+    }
+
+    private static int[] bfsOrder(IntGraph graph) {
+        int n = graph.vertices();
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int tail = 0;
+        for (int root = 0; root < n; root++) {
+            if (visited[root]) continue;
+            int head = tail;
+            order[tail++] = root;
+            visited[root] = true;
+            while (head < tail) {
+                int u = order[head++];
+                for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                    int v = graph.target(e);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        order[tail++] = v;
+                    }
+                }
+            }
+        }
+        return order;
+    }
+
+    private static int[] reverseCuthillMcKee(IntGraph graph) {
+        int n = graph.vertices();
+        CsrGraph undirected = symmetrize(graph);
+        int[] degree = new int[n];
+        for (int v = 0; v < n; v++) {
+            degree[v] = undirected.outDegree(v);
+        }
+
+        // Roots in increasing degree, so every component starts from one of its lowest-degree vertices.
+        int[] roots = sortByDegree(degree, false);
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        int[] neighbours = new int[n];
+        int tail = 0;
+        for (int root : roots) {
+            if (visited[root]) continue;
+            int head = tail;
+            order[tail++] = root;
+            visited[root] = true;
+            while (head < tail) {
+                int u = order[head++];
+                int count = 0;
+                for (int e = undirected.edgeStart(u), end = undirected.edgeEnd(u); e < end; e++) {
+                    int v = undirected.target(e);
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        neighbours[count++] = v;
+                    }
+                }
+                sortByDegree(neighbours, count, degree);
+                System.arraycopy(neighbours, 0, order, tail, count);
+                tail += count;
+            }
+        }
+        for (int i = 0, j = n - 1; i < j; i++, j--) {
+            int t = order[i];
+            order[i] = order[j];
+            order[j] = t;
+        }
+        return order;
+    }
+
+    private static int[] degreeOrder(IntGraph graph) {
+        int n = graph.vertices();
+        int[] degree = new int[n];
+        for (int u = 0; u < n; u++) {
+            degree[u] += graph.outDegree(u);
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                degree[graph.target(e)]++;
+            }
+        }
+        return sortByDegree(degree, true);
+    }
+
+    /**
+     * Stable counting sort of the vertex ids by degree.
+     */
+    private static int[] sortByDegree(int[] degree, boolean descending) {
+        int n = degree.length;
+        int max = 0;
+        for (int d : degree) max = Math.max(max, d);
+        int[] start = new int[max + 2];
+        for (int d : degree) {
+            start[(descending ? max - d : d) + 1]++;
+        }
+        for (int i = 0; i <= max; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            order[start[descending ? max - degree[v] : degree[v]]++] = v;
+        }
+        return order;
+    }
+
+    /**
+     * Insertion sort of the first {@code count} vertices by degree; fine for adjacency lists,
+     * with a full sort once a list gets long.
+     */
+    private static void sortByDegree(int[] vertices, int count, int[] degree) {
+        if (count > 32) {
+            long[] keyed = new long[count];
+            for (int i = 0; i < count; i++) {
+                keyed[i] = ((long) degree[vertices[i]] << 32) | vertices[i];
+            }
+            Arrays.sort(keyed);
+            for (int i = 0; i < count; i++) {
+                vertices[i] = (int) keyed[i];
+            }
+            return;
+        }
+        for (int i = 1; i < count; i++) {
+            int v = vertices[i];
+            int j = i - 1;
+            while (j >= 0 && degree[vertices[j]] > degree[v]) {
+                vertices[j + 1] = vertices[j];
+                j--;
+            }
+            vertices[j + 1] = v;
+        }
+    }
+
+    private static CsrGraph symmetrize(IntGraph graph) {
+        CsrGraph.Builder builder = new CsrGraph.Builder(graph.vertices(), Math.max(2 * graph.edges(), 1));
+        for (int u = 0; u < graph.vertices(); u++) {
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                int v = graph.target(e);
+                if (u == v) continue;
+                builder.addEdge(u, v);
+                builder.addEdge(v, u);
+            }
+        }
+        return builder.build();
+    }
+
+    private static CsrGraph permute(IntGraph graph, int[] newId, int[] oldId) {
+        int n = graph.vertices();
+        boolean weighted = graph instanceof CsrGraph csr && csr.isWeighted();
+        int[] offsets = new int[n + 1];
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] = offsets[v] + graph.outDegree(oldId[v]);
+        }
+        int[] targets = new int[offsets[n]];
+        double[] weights = weighted ? new double[offsets[n]] : null;
+        for (int v = 0; v < n; v++) {
+            int u = oldId[v];
+            int slot = offsets[v];
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++, slot++) {
+                targets[slot] = newId[graph.target(e)];
+                if (weighted) weights[slot] = ((CsrGraph) graph).weight(e);
+            }
+        }
+        return new CsrGraph(offsets, targets, weights);
+    }
+
+    public static void main(String[] args) {
+        CsrGraph graph = new CsrGraph.Builder(8)
+                .addEdge(0, 7)
+                .addEdge(7, 3)
+                .addEdge(3, 5)
+                .addEdge(5, 1)
+                .addEdge(1, 6)
+                .addEdge(6, 2)
+                .addEdge(2, 4)
+                .addEdge(0, 4)
+                .build();
+
+        for (Strategy strategy : Strategy.values()) {
+            VertexReordering reordering = of(graph, strategy);
+            System.out.println(strategy + " new -> old: " + Arrays.toString(reordering.inverse()));
+            reordering.graph().printGraph();
+        }
+
+        VertexReordering rcm = of(graph, Strategy.RCM);
+        int[] order = new int[graph.vertices()];
+        int reached = BFS.breadthFirstOrder(rcm.graph(), rcm.toNew(0), order, new boolean[graph.vertices()]);
+        System.out.println("BFS from 0 in original ids: "
+                + Arrays.toString(rcm.toOriginalIds(Arrays.copyOf(order, reached))));
+    }
+}
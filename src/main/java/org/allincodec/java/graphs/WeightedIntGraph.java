@@ -0,0 +1,11 @@
+package org.allincodec.java.graphs;
+
+/**
+ * {@link IntGraph} whose edges carry a non-negative {@code double} weight, stored in a
+ * primitive array parallel to the targets: {@code weight(e)} is the weight of the edge
+ * {@code v -> target(e)}.
+ */
+public interface WeightedIntGraph extends IntGraph {
+
+    double weight(int e);
+}
@@ -0,0 +1,107 @@
+package org.allincodec.java.graphs.partitioned;
+
+import org.allincodec.java.graphs.IntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * The part of a partitioned graph that one shard owns: the out-edges of its vertices, in CSR
+ * form indexed by local vertex index. Targets stay global ids, since they may belong to any
+ * shard.
+ *
+ * <p>A shard only ever holds its own edges, so in a multi-process deployment each process
+ * builds just its shard with a {@link Builder}, feeding it the edges whose source it owns.</p>
+ *
+ * Space Complexity: O(local vertices + local out-edges)
+ */
+public final class GraphShard {
+
+    private final Partitioner partitioner;
+    private final int shard;
+    private final int[] offsets;
+    private final int[] targets;
+
+    private GraphShard(Partitioner partitioner, int shard, int[] offsets, int[] targets) {
+        this.partitioner = partitioner;
+        this.shard = shard;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public Partitioner partitioner() {
+        return partitioner;
+    }
+
+    public int shard() {
+        return shard;
+    }
+
+    public int localVertices() {
+        return offsets.length - 1;
+    }
+
+    public int edges() {
+        return targets.length;
+    }
+
+    public int edgeStart(int local) {
+        return offsets[local];
+    }
+
+    public int edgeEnd(int local) {
+        return offsets[local + 1];
+    }
+
+    /**
+     * @return the global id of the target of edge {@code e}
+     */
+    public int target(int e) {
+        return targets[e];
+    }
+
+    public static final class Builder {
+        private final Partitioner partitioner;
+        private final int shard;
+        private final IntArrayList sources = new IntArrayList();
+        private final IntArrayList destinations = new IntArrayList();
+
+        public Builder(Partitioner partitioner, int shard) {
+            this.partitioner = partitioner;
+            this.shard = shard;
+        }
+
+        /**
+         * Adds the edge {@code src -> dest} given in global ids.
+         *
+         * @throws IllegalArgumentException if this shard does not own {@code src}
+         */
+        public Builder addEdge(int src, int dest) {
+            if (partitioner.shardOf(src) != shard) {
+                throw new IllegalArgumentException("Vertex " + src + " belongs to shard "
+                        + partitioner.shardOf(src) + ", not " + shard);
+            }
+            if (dest >= 0 && dest < partitioner.vertices()) {
+                sources.add(partitioner.localIndex(src));
+                destinations.add(dest);
+            }
+            return this;
+        }
+
+        public GraphShard build() {
+            int n = partitioner.localCount(shard);
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < sources.size(); i++) {
+                offsets[sources.get(i) + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] cursor = Arrays.copyOf(offsets, n);
+            int[] targets = new int[sources.size()];
+            for (int i = 0; i < sources.size(); i++) {
+                targets[cursor[sources.get(i)]++] = destinations.get(i);
+            }
+            return new GraphShard(partitioner, shard, offsets, targets);
+        }
+    }
+}
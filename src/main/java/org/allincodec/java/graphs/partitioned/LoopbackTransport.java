@@ -0,0 +1,75 @@
+package org.allincodec.java.graphs.partitioned;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+
+/**
+ * {@link ShardTransport} for shards that run as threads in one JVM. Batches are handed over
+ * by reference through a {@code shards x shards} mailbox; a {@link CyclicBarrier} separates
+ * the write phase from the read phase and the read phase from the next superstep's writes.
+ *
+ * <p>Meant for tests and single-box runs: it exercises exactly the superstep protocol a
+ * networked transport has to implement, without serialization.</p>
+ */
+public final class LoopbackTransport implements ShardTransport {
+
+    private final int shards;
+    private final int[][][] mailbox;
+    private final long[] values;
+    private final CyclicBarrier barrier;
+    private volatile boolean failed;
+
+    public LoopbackTransport(int shards) {
+        this.shards = shards;
+        this.mailbox = new int[shards][shards][];
+        this.values = new long[shards];
+        this.barrier = new CyclicBarrier(shards);
+    }
+
+    @Override
+    public int shards() {
+        return shards;
+    }
+
+    @Override
+    public int[][] exchange(int shard, int[][] outgoing) throws InterruptedException {
+        for (int to = 0; to < shards; to++) {
+            mailbox[to][shard] = outgoing[to];
+        }
+        await();
+        int[][] incoming = mailbox[shard].clone();
+        await();
+        return incoming;
+    }
+
+    @Override
+    public long sum(int shard, long value) throws InterruptedException {
+        values[shard] = value;
+        await();
+        long total = 0;
+        for (long v : values) total += v;
+        await();
+        return total;
+    }
+
+    /**
+     * Marks the computation as failed and breaks the barrier, so that shards blocked in a
+     * superstep fail instead of waiting for a shard that has died. The failure is sticky:
+     * every later superstep call fails at once. A shard that has checked the flag but not yet
+     * reached the barrier can still miss the reset, so the caller must also interrupt the
+     * shard threads, as {@link ShardedBFS} does.
+     */
+    void abort() {
+        failed = true;
+        barrier.reset();
+    }
+
+    private void await() throws InterruptedException {
+        if (failed) throw new IllegalStateException("Another shard failed; superstep aborted");
+        try {
+            barrier.await();
+        } catch (BrokenBarrierException e) {
+            throw new IllegalStateException("Another shard failed during the superstep", e);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.allincodec.java.graphs.partitioned;
+
+import org.allincodec.java.graphs.IntGraph;
+
+/**
+ * All shards of a partitioned graph held in one process: the single-box form used for
+ * testing, and for splitting an existing graph before its shards are shipped elsewhere.
+ */
+public final class PartitionedGraph {
+
+    private final Partitioner partitioner;
+    private final GraphShard[] shards;
+
+    public PartitionedGraph(Partitioner partitioner, GraphShard[] shards) {
+        if (shards.length != partitioner.shards()) {
+            throw new IllegalArgumentException("Expected " + partitioner.shards() + " shards, got " + shards.length);
+        }
+        this.partitioner = partitioner;
+        this.shards = shards;
+    }
+
+    /**
+     * Splits {@code graph} into {@code partitioner.shards()} shards in O(V + E).
+     */
+    public static PartitionedGraph split(IntGraph graph, Partitioner partitioner) {
+        if (graph.vertices() != partitioner.vertices()) {
+            throw new IllegalArgumentException("Partitioner covers " + partitioner.vertices()
+                    + " vertices, graph has " + graph.vertices());
+        }
+        GraphShard.Builder[] builders = new GraphShard.Builder[partitioner.shards()];
+        for (int s = 0; s < builders.length; s++) {
+            builders[s] = new GraphShard.Builder(partitioner, s);
+        }
+        for (int u = 0; u < graph.vertices(); u++) {
+            GraphShard.Builder builder = builders[partitioner.shardOf(u)];
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                builder.addEdge(u, graph.target(e));
+            }
+        }
+        GraphShard[] shards = new GraphShard[builders.length];
+        for (int s = 0; s < shards.length; s++) {
+            shards[s] = builders[s].build();
+        }
+        return new PartitionedGraph(partitioner, shards);
+    }
+
+    public Partitioner partitioner() {
+        return partitioner;
+    }
+
+    public int shards() {
+        return shards.length;
+    }
+
+    public GraphShard shard(int s) {
+        return shards[s];
+    }
+
+    /**
+     * @return the number of edges whose endpoints live on different shards; every one of
+     * them is a message in a distributed traversal
+     */
+    public long cutEdges() {
+        long cut = 0;
+        for (GraphShard shard : shards) {
+            for (int e = 0; e < shard.edges(); e++) {
+                if (partitioner.shardOf(shard.target(e)) != shard.shard()) cut++;
+            }
+        }
+        return cut;
+    }
+}
@@ -0,0 +1,93 @@
+package org.allincodec.java.graphs.partitioned;
+
+/**
+ * Assigns every vertex {@code 0..vertices-1} of a graph to one of {@code shards} shards and
+ * gives it a dense local index inside that shard, so a shard can keep its vertex state in
+ * plain arrays of size {@link #localCount(int)}.
+ *
+ * <pre>
+ * vertices = 10, shards = 3
+ *
+ * hashed: shard = v % 3, local = v / 3     range: blocks of ceil(10 / 3) = 4
+ *   shard 0: 0 3 6 9                          shard 0: 0 1 2 3
+ *   shard 1: 1 4 7                            shard 1: 4 5 6 7
+ *   shard 2: 2 5 8                            shard 2: 8 9
+ * </pre>
+ *
+ * <p>{@link #hashed} spreads neighbouring ids, and with them the hubs of a skewed graph,
+ * evenly across shards. {@link #range} keeps id-local neighbourhoods together, which sends
+ * fewer edges across shards when ids were assigned by locality (for example after a BFS
+ * renumbering). Both are pure arithmetic, so no shard needs a lookup table.</p>
+ */
+public interface Partitioner {
+
+    int vertices();
+
+    int shards();
+
+    int shardOf(int v);
+
+    int localIndex(int v);
+
+    int globalId(int shard, int local);
+
+    int localCount(int shard);
+
+    static Partitioner hashed(int vertices, int shards) {
+        return new Hashed(vertices, checkShards(shards));
+    }
+
+    static Partitioner range(int vertices, int shards) {
+        checkShards(shards);
+        return new Range(vertices, shards, Math.max(1, (vertices + shards - 1) / shards));
+    }
+
+    private static int checkShards(int shards) {
+        if (shards < 1) throw new IllegalArgumentException("shards must be >= 1: " + shards);
+        return shards;
+    }
+
+    record Hashed(int vertices, int shards) implements Partitioner {
+        @Override
+        public int shardOf(int v) {
+            return v % shards;
+        }
+
+        @Override
+        public int localIndex(int v) {
+            return v / shards;
+        }
+
+        @Override
+        public int globalId(int shard, int local) {
+            return local * shards + shard;
+        }
+
+        @Override
+        public int localCount(int shard) {
+            return shard < vertices % shards ? vertices / shards + 1 : vertices / shards;
+        }
+    }
+
+    record Range(int vertices, int shards, int block) implements Partitioner {
+        @Override
+        public int shardOf(int v) {
+            return v / block;
+        }
+
+        @Override
+        public int localIndex(int v) {
+            return v % block;
+        }
+
+        @Override
+        public int globalId(int shard, int local) {
+            return shard * block + local;
+        }
+
+        @Override
+        public int localCount(int shard) {
+            return Math.max(0, Math.min(block, vertices - shard * block));
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.allincodec.java.graphs.partitioned;
+
+/**
+ * Moves data between the shards of a bulk-synchronous computation. Every shard calls each
+ * method once per superstep, in the same order; a call returns only when all shards have
+ * made it, so both methods double as the superstep barrier.
+ *
+ * <p>{@link LoopbackTransport} connects shards running as threads of one JVM. A networked
+ * implementation (one shard per process, batches sent over sockets or a message bus) plugs in
+ * behind the same interface without changing {@link ShardedBFS}.</p>
+ */
+public interface ShardTransport {
+
+    int shards();
+
+    /**
+     * Sends {@code outgoing[s]} to shard {@code s} for every shard {@code s} and waits for the
+     * batches addressed to {@code shard} in this superstep. A null batch means nothing to send
+     * and need not go over the wire.
+     *
+     * @return the received batches, indexed by sending shard; null where nothing was sent
+     */
+    int[][] exchange(int shard, int[][] outgoing) throws InterruptedException;
+
+    /**
+     * All-reduce: returns the sum of the values every shard passed in this superstep.
+     */
+    long sum(int shard, long value) throws InterruptedException;
+}
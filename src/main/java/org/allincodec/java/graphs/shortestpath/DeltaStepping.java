@@ -0,0 +1,224 @@
+package org.allincodec.java.graphs.shortestpath;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.allincodec.java.graphs.IntArrayList;
+import org.allincodec.java.graphs.WeightedIntGraph;
+
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Parallel single-source shortest paths with Meyer and Sanders' Δ-stepping.
+ *
+ * <p>Dijkstra settles one vertex at a time. Δ-stepping instead keeps tentative distances in
+ * buckets of width Δ and settles a whole bucket per phase:</p>
+ * <ol>
+ *   <li>Take the lowest non-empty bucket {@code i}.</li>
+ *   <li>Relax the <b>light</b> edges ({@code w <= Δ}) of all its vertices in parallel. Light
+ *   edges can land back in bucket {@code i}, so repeat until it stays empty, remembering
+ *   every vertex removed from it.</li>
+ *   <li>Relax the <b>heavy</b> edges ({@code w > Δ}) of the remembered vertices once, in
+ *   parallel; they can only land in later buckets.</li>
+ * </ol>
+ *
+ * <p>Only non-empty buckets exist: they are kept in a {@link TreeMap} by bucket index, so
+ * a long, sparse distance range (one heavy edge of weight 3e8 with Δ = 1) costs one map
+ * entry, not millions of empty buckets.</p>
+ *
+ * <p>Tentative distances are {@code double}s stored as raw bits in an {@link AtomicLongArray}:
+ * for non-negative doubles the bit patterns order the same way as the values, so relaxation
+ * is a CAS-min loop. Relaxing tasks collect improved vertices locally and the bucket update
+ * runs sequentially between parallel rounds. Parents are recovered at the end with one
+ * sequential pass over the edges.</p>
+ *
+ * <p>Δ trades work for parallelism: a small Δ approaches Dijkstra, a large one approaches
+ * Bellman-Ford. The average edge weight is a reasonable starting point.</p>
+ *
+ * Time Complexity: O(V + E) expected work for random weights with Δ = Θ(1 / max degree),
+ * more re-relaxations as Δ grows
+ * Space Complexity: O(V + bucket entries), independent of the distance range
+ */
+public final class DeltaStepping {
+
+    private static final int GRAIN = 512;
+
+    private final WeightedIntGraph graph;
+    private final double delta;
+    private final ForkJoinPool pool;
+
+    public DeltaStepping(WeightedIntGraph graph, double delta) {
+        this(graph, delta, ForkJoinPool.commonPool());
+    }
+
+    public DeltaStepping(WeightedIntGraph graph, double delta, ForkJoinPool pool) {
+        if (!(delta > 0)) throw new IllegalArgumentException("delta must be positive: " + delta);
+        this.graph = graph;
+        this.delta = delta;
+        this.pool = pool;
+    }
+
+    /**
+     * Same contract as {@link Dijkstra#run}: fills {@code dist} and, if non-null, {@code parent}.
+     * Parents are any predecessor with {@code dist[u] + w == dist[v]}; on graphs with
+     * zero-weight cycles they may therefore point around such a cycle.
+     */
+    public void run(int source, double[] dist, int[] parent) {
+        int n = graph.vertices();
+        AtomicLongArray tentative = new AtomicLongArray(n);
+        long infinity = Double.doubleToRawLongBits(Double.POSITIVE_INFINITY);
+        for (int v = 0; v < n; v++) tentative.set(v, infinity);
+        tentative.set(source, Double.doubleToRawLongBits(0.0));
+
+        TreeMap<Long, IntArrayList> buckets = new TreeMap<>();
+        int[] stamp = new int[n];
+        int round = 0;
+        place(buckets, source, 0.0);
+
+        while (!buckets.isEmpty()) {
+            long i = buckets.firstKey();
+            IntArrayList settled = new IntArrayList();
+            IntArrayList bucket;
+            while ((bucket = buckets.remove(i)) != null) {
+
+                // Drop stale entries (moved to a lower bucket) and duplicates.
+                round++;
+                IntArrayList frontier = new IntArrayList(bucket.size());
+                for (int k = 0; k < bucket.size(); k++) {
+                    int v = bucket.get(k);
+                    if (stamp[v] != round && bucketOf(Double.longBitsToDouble(tentative.get(v))) == i) {
+                        stamp[v] = round;
+                        frontier.add(v);
+                        settled.add(v);
+                    }
+                }
+                relax(frontier.toArray(), true, tentative, buckets);
+            }
+            relax(settled.toArray(), false, tentative, buckets);
+        }
+
+        for (int v = 0; v < n; v++) {
+            dist[v] = Double.longBitsToDouble(tentative.get(v));
+        }
+        if (parent != null) {
+            recoverParents(source, dist, parent);
+        }
+    }
+
+    private void relax(int[] vertices, boolean light, AtomicLongArray tentative, TreeMap<Long, IntArrayList> buckets) {
+        if (vertices.length == 0) return;
+        ConcurrentLinkedQueue<IntArrayList> improved = new ConcurrentLinkedQueue<>();
+        RelaxTask task = new RelaxTask(vertices, 0, vertices.length, light, tentative, improved);
+        if (vertices.length <= GRAIN) {
+            task.compute();
+        } else {
+            pool.invoke(task);
+        }
+        for (IntArrayList list : improved) {
+            for (int k = 0; k < list.size(); k++) {
+                int v = list.get(k);
+                place(buckets, v, Double.longBitsToDouble(tentative.get(v)));
+            }
+        }
+    }
+
+    private void place(TreeMap<Long, IntArrayList> buckets, int v, double distance) {
+        buckets.computeIfAbsent(bucketOf(distance), b -> new IntArrayList()).add(v);
+    }
+
+    /**
+     * Beyond 2^63 Δ the index saturates and those distances share the last bucket. That bucket
+     * is then processed label-correcting style, re-entered whenever it refills, so distances
+     * stay exact; only the phase structure is lost.
+     */
+    private long bucketOf(double distance) {
+        return (long) Math.floor(distance / delta);
+    }
+
+    private void recoverParents(int source, double[] dist, int[] parent) {
+        Arrays.fill(parent, -1);
+        for (int u = 0; u < graph.vertices(); u++) {
+            if (dist[u] == Double.POSITIVE_INFINITY) continue;
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                int v = graph.target(e);
+                if (v != source && parent[v] < 0 && dist[u] + graph.weight(e) == dist[v]) {
+                    parent[v] = u;
+                }
+            }
+        }
+    }
+
+    private final class RelaxTask extends RecursiveAction {
+        private final int[] vertices;
+        private final int from;
+        private final int to;
+        private final boolean light;
+        private final AtomicLongArray tentative;
+        private final ConcurrentLinkedQueue<IntArrayList> improved;
+
+        RelaxTask(int[] vertices, int from, int to, boolean light,
+                  AtomicLongArray tentative, ConcurrentLinkedQueue<IntArrayList> improved) {
+            this.vertices = vertices;
+            this.from = from;
+            this.to = to;
+            this.light = light;
+            this.tentative = tentative;
+            this.improved = improved;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > GRAIN) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new RelaxTask(vertices, from, mid, light, tentative, improved),
+                        new RelaxTask(vertices, mid, to, light, tentative, improved));
+                return;
+            }
+            IntArrayList local = new IntArrayList();
+            for (int i = from; i < to; i++) {
+                int u = vertices[i];
+                double du = Double.longBitsToDouble(tentative.get(u));
+                for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                    double w = graph.weight(e);
+                    if ((w <= delta) != light) continue;
+                    int v = graph.target(e);
+                    if (lowerTo(v, du + w)) local.add(v);
+                }
+            }
+            if (!local.isEmpty()) improved.add(local);
+        }
+
+        private boolean lowerTo(int v, double candidate) {
+            long bits = Double.doubleToRawLongBits(candidate);
+            long current = tentative.get(v);
+            while (bits < current) {
+                if (tentative.compareAndSet(v, current, bits)) return true;
+                current = tentative.get(v);
+            }
+            return false;
+        }
+    }
+
+    public static void main(String[] args) {
+        CsrGraph graph = new CsrGraph.Builder(6)
+                .addEdge(0, 1, 7)
+                .addEdge(0, 2, 9)
+                .addEdge(0, 5, 14)
+                .addEdge(1, 2, 10)
+                .addEdge(1, 3, 15)
+                .addEdge(2, 3, 11)
+                .addEdge(2, 5, 2)
+                .addEdge(3, 4, 6)
+                .addEdge(5, 4, 9)
+                .build();
+
+        double[] dist = new double[graph.vertices()];
+        int[] parent = new int[graph.vertices()];
+        new DeltaStepping(graph, 5).run(0, dist, parent);
+        System.out.println("Distances: " + Arrays.toString(dist)); // [0, 7, 9, 20, 20, 11]
+        System.out.println("Parents:   " + Arrays.toString(parent)); // [-1, 0, 0, 2, 5, 2]
+    }
+}
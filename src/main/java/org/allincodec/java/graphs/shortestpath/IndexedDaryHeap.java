@@ -0,0 +1,157 @@
+package org.allincodec.java.graphs.shortestpath;
+
+import java.util.Arrays;
+
+/**
+ * Indexed d-ary min-heap over the ids {@code 0..capacity-1} with {@code double} keys.
+ *
+ * <p>{@code PriorityQueue<Entry>} cannot lower the key of an element in place, so Dijkstra on
+ * it inserts a new boxed entry for every improvement and skips stale ones later. This heap
+ * stores ids in an {@code int[]} and remembers where each id sits ({@code position[id]}), so
+ * {@link #decreaseKey} moves the existing entry up in O(log_d n) and nothing is boxed.</p>
+ *
+ * <p>A wider node ({@code d = 4} by default) makes the tree shallower, so the frequent
+ * decrease-keys sift through fewer levels, and the d children of a node share a cache line.</p>
+ *
+ * <pre>
+ * heap:     [ 3, 0, 7, 5, ... ]     ids in heap order
+ * position: position[3] = 0, position[0] = 1, ...   -1 when absent
+ * key:      key[id]
+ * </pre>
+ *
+ * Time Complexity: O(log_d n) insert/decreaseKey, O(d log_d n) pollMin
+ * Space Complexity: O(capacity)
+ */
+public final class IndexedDaryHeap {
+
+    private final int arity;
+    private final int[] heap;
+    private final int[] position;
+    private final double[] key;
+    private int size;
+
+    public IndexedDaryHeap(int capacity) {
+        this(capacity, 4);
+    }
+
+    public IndexedDaryHeap(int capacity, int arity) {
+        if (arity < 2) throw new IllegalArgumentException("arity must be >= 2: " + arity);
+        this.arity = arity;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.key = new double[capacity];
+        Arrays.fill(position, -1);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(int id) {
+        return position[id] >= 0;
+    }
+
+    public double key(int id) {
+        return key[id];
+    }
+
+    public int peekMin() {
+        return heap[0];
+    }
+
+    public double minKey() {
+        return key[heap[0]];
+    }
+
+    /**
+     * Inserts {@code id}, or lowers its key if it is already present with a larger one.
+     *
+     * @return true if the heap changed
+     */
+    public boolean insertOrDecrease(int id, double newKey) {
+        if (position[id] < 0) {
+            key[id] = newKey;
+            heap[size] = id;
+            position[id] = size;
+            siftUp(size++);
+            return true;
+        }
+        return decreaseKey(id, newKey);
+    }
+
+    /**
+     * @return true if {@code newKey} was smaller than the current key of {@code id}
+     */
+    public boolean decreaseKey(int id, double newKey) {
+        if (newKey >= key[id]) return false;
+        key[id] = newKey;
+        siftUp(position[id]);
+        return true;
+    }
+
+    public int pollMin() {
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Empties the heap in O(size).
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i) {
+        int id = heap[i];
+        double k = key[id];
+        while (i > 0) {
+            int parent = (i - 1) / arity;
+            int parentId = heap[parent];
+            if (key[parentId] <= k) break;
+            heap[i] = parentId;
+            position[parentId] = i;
+            i = parent;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+
+    private void siftDown(int i) {
+        int id = heap[i];
+        double k = key[id];
+        while (true) {
+            int first = i * arity + 1;
+            if (first >= size) break;
+            int last = Math.min(first + arity, size);
+            int best = first;
+            double bestKey = key[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                double ck = key[heap[c]];
+                if (ck < bestKey) {
+                    best = c;
+                    bestKey = ck;
+                }
+            }
+            if (bestKey >= k) break;
+            heap[i] = heap[best];
+            position[heap[i]] = i;
+            i = best;
+        }
+        heap[i] = id;
+        position[id] = i;
+    }
+}
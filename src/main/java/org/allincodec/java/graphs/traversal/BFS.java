@@ -1,7 +1,8 @@
 package org.allincodec.java.graphs.traversal;
 
 import org.allincodec.java.graphs.DirectedGraph;
-import org.allincodec.java.graphs.DoublyLinkedList;
+import org.allincodec.java.graphs.IntDoublyLinkedList;
+import org.allincodec.java.graphs.IntGraph;
 
 import java.util.LinkedList;
 import java.util.Queue;
@@ -26,16 +27,72 @@ public class BFS {
         while (!queue.isEmpty()) {
             int current = queue.poll();
             System.out.print(current + " ");
-            DoublyLinkedList<Integer> adjacencyList = dg.adjacencyList().get(current);
-            DoublyLinkedList<Integer>.Node node = adjacencyList.head();
-            while (node != null) {
-                if (!visited[node.data()]) {
-                    queue.offer(node.data());
-                    visited[node.data()] = true;
+            IntDoublyLinkedList adjacencyList = dg.adjacencyList();
+            int node = adjacencyList.head(current);
+            while (node != IntDoublyLinkedList.NIL) {
+                int next = adjacencyList.value(node);
+                if (!visited[next]) {
+                    queue.offer(next);
+                    visited[next] = true;
                 }
-                node = node.nextNode();
+                node = adjacencyList.next(node);
             }
         }
         System.out.println();
     }
+
+    /**
+     * Breadth-first traversal over a primitive graph that writes the visiting order into
+     * {@code order} instead of printing it. {@code order} doubles as the FIFO queue, so the
+     * traversal itself allocates nothing; callers can reuse both arrays across calls
+     * after clearing {@code visited}.
+     *
+     * @param order   receives the visited vertices, must hold at least {@code g.vertices()}
+     * @param visited visited marks, must hold at least {@code g.vertices()}
+     * @return the number of vertices reached from {@code source}
+     */
+    public static int breadthFirstOrder(IntGraph g, int source, int[] order, boolean[] visited) {
+        int head = 0;
+        int tail = 0;
+        order[tail++] = source;
+        visited[source] = true;
+
+        while (head < tail) {
+            int current = order[head++];
+            for (int e = g.edgeStart(current), end = g.edgeEnd(current); e < end; e++) {
+                int next = g.target(e);
+                if (!visited[next]) {
+                    visited[next] = true;
+                    order[tail++] = next;
+                }
+            }
+        }
+        return tail;
+    }
+
+    /**
+     * Returns true if {@code dest} is reachable from {@code source}, stopping as soon as it
+     * is discovered. Uses the same caller-provided scratch arrays as
+     * {@link #breadthFirstOrder(IntGraph, int, int[], boolean[])}.
+     */
+    public static boolean isReachable(IntGraph g, int source, int dest, int[] queue, boolean[] visited) {
+        if (source == dest) return true;
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        visited[source] = true;
+
+        while (head < tail) {
+            int current = queue[head++];
+            for (int e = g.edgeStart(current), end = g.edgeEnd(current); e < end; e++) {
+                int next = g.target(e);
+                if (next == dest) return true;
+                if (!visited[next]) {
+                    visited[next] = true;
+                    queue[tail++] = next;
+                }
+            }
+        }
+        return false;
+    }
 }
@@ -1,7 +1,8 @@
 package org.allincodec.java.graphs.traversal;
 
 import org.allincodec.java.graphs.DirectedGraph;
-import org.allincodec.java.graphs.DoublyLinkedList;
+import org.allincodec.java.graphs.IntDoublyLinkedList;
+import org.allincodec.java.graphs.IntGraph;
 
 import java.util.LinkedList;
 import java.util.Queue;
@@ -11,12 +12,50 @@ public class DFS {
     public void depthFirstSearch(DirectedGraph dg, int source, boolean[] visited) {
         System.out.print("| " + source + " | => ");
         visited[source] = true;
-        DoublyLinkedList<Integer>.Node node = dg.adjacencyList().get(source).head();
-        while(node!=null) {
-            if(!visited[node.data()]) {
-                depthFirstSearch(dg, node.data(), visited);
+        IntDoublyLinkedList adjacencyList = dg.adjacencyList();
+        int node = adjacencyList.head(source);
+        while(node != IntDoublyLinkedList.NIL) {
+            if(!visited[adjacencyList.value(node)]) {
+                depthFirstSearch(dg, adjacencyList.value(node), visited);
             }
-            node = node.nextNode();
+            node = adjacencyList.next(node);
         }
     }
+
+    /**
+     * Depth-first traversal over a primitive graph that writes the pre-order into {@code order}
+     * instead of printing it, in the same order as {@link #depthFirstSearch}. There is no
+     * recursion, so long paths cannot overflow the thread stack: an explicit stack holds, for
+     * each vertex on the current path, the next out-edge to examine. The vertex itself is not
+     * stored, it is the target of the edge its parent just followed.
+     *
+     * @param order   receives the visited vertices, must hold at least {@code g.vertices()}
+     * @param visited visited marks, must hold at least {@code g.vertices()}
+     * @return the number of vertices reached from {@code source}
+     */
+    public static int depthFirstOrder(IntGraph g, int source, int[] order, boolean[] visited) {
+        int[] edgeStack = new int[g.vertices()];
+        int reached = 0;
+        order[reached++] = source;
+        visited[source] = true;
+        int top = 0;
+        edgeStack[0] = g.edgeStart(source);
+
+        while (top >= 0) {
+            int u = top == 0 ? source : g.target(edgeStack[top - 1] - 1);
+            int e = edgeStack[top];
+            if (e < g.edgeEnd(u)) {
+                edgeStack[top] = e + 1;
+                int v = g.target(e);
+                if (!visited[v]) {
+                    visited[v] = true;
+                    order[reached++] = v;
+                    edgeStack[++top] = g.edgeStart(v);
+                }
+            } else {
+                top--;
+            }
+        }
+        return reached;
+    }
 }
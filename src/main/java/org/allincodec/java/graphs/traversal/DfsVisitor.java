@@ -0,0 +1,31 @@
+package org.allincodec.java.graphs.traversal;
+
+/**
+ * Callbacks fired by {@link IterativeDFS}. Every method has an empty default so a visitor
+ * only overrides the events it needs.
+ */
+public interface DfsVisitor {
+
+    /**
+     * Classification of an edge {@code u -> v} at the moment DFS examines it.
+     * <ul>
+     *   <li>TREE: v was undiscovered and becomes a child of u</li>
+     *   <li>BACK: v is an ancestor of u still on the stack, so the edge closes a cycle</li>
+     *   <li>FORWARD: v is an already finished descendant of u</li>
+     *   <li>CROSS: v is finished and lies in another subtree or an earlier tree</li>
+     * </ul>
+     */
+    enum EdgeType { TREE, BACK, FORWARD, CROSS }
+
+    /** Called when {@code v} is first discovered. */
+    default void preVisit(int v) {
+    }
+
+    /** Called when every out-edge of {@code v} has been explored. */
+    default void postVisit(int v) {
+    }
+
+    /** Called once for every edge examined, before DFS descends along a TREE edge. */
+    default void edge(int u, int v, EdgeType type) {
+    }
+}
@@ -0,0 +1,311 @@
+package org.allincodec.java.graphs.traversal;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.allincodec.java.graphs.IntArrayList;
+import org.allincodec.java.graphs.IntGraph;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Pull-based BFS and DFS over an {@link IntGraph}, exposed as a
+ * {@link PrimitiveIterator.OfInt} or an {@link IntStream}.
+ *
+ * <p>Nothing runs until the consumer asks for the next vertex, and each request does only the
+ * work needed to produce it: a BFS expands a vertex's out-edges only once the queue has no
+ * unreturned vertex left, a DFS advances one edge at a time. Stopping early, with
+ * {@code limit}, {@code anyMatch}, or by just not calling {@code next()}, costs nothing.
+ * Visited vertices are tracked in a hash set that grows with the traversal, so touching 300
+ * vertices of a 10^8-vertex graph does not allocate or clear a 10^8-entry array.</p>
+ *
+ * <pre>
+ * LazyTraversal.bfs(graph, source)
+ *         .maxDepth(2)
+ *         .maxVertices(300)
+ *         .onLevel(depth -&gt; System.out.println("level " + depth))
+ *         .stream()
+ *         .filter(v -&gt; isInteresting(v))
+ *         .findFirst();
+ * </pre>
+ *
+ * Time Complexity: O(returned vertices + their scanned edges)
+ * Space Complexity: O(returned vertices + frontier)
+ */
+public final class LazyTraversal {
+
+    private final IntGraph graph;
+    private final int source;
+    private final boolean breadthFirst;
+    private int maxDepth = Integer.MAX_VALUE;
+    private long maxVertices = Long.MAX_VALUE;
+    private IntConsumer onLevel;
+
+    private LazyTraversal(IntGraph graph, int source, boolean breadthFirst) {
+        this.graph = graph;
+        this.source = source;
+        this.breadthFirst = breadthFirst;
+    }
+
+    public static LazyTraversal bfs(IntGraph graph, int source) {
+        return new LazyTraversal(graph, source, true);
+    }
+
+    /**
+     * Pre-order DFS: a vertex is returned when it is first discovered.
+     */
+    public static LazyTraversal dfs(IntGraph graph, int source) {
+        return new LazyTraversal(graph, source, false);
+    }
+
+    /**
+     * Skips vertices more than {@code depth} edges from the source (BFS: hop distance, DFS:
+     * depth in the DFS tree). {@code maxDepth(0)} yields the source only.
+     */
+    public LazyTraversal maxDepth(int depth) {
+        if (depth < 0) throw new IllegalArgumentException("depth must be >= 0: " + depth);
+        this.maxDepth = depth;
+        return this;
+    }
+
+    public LazyTraversal maxVertices(long count) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0: " + count);
+        this.maxVertices = count;
+        return this;
+    }
+
+    /**
+     * BFS only: called with the depth of a level just before its first vertex is returned.
+     */
+    public LazyTraversal onLevel(IntConsumer listener) {
+        if (!breadthFirst) throw new IllegalStateException("level callbacks need a BFS traversal");
+        this.onLevel = listener;
+        return this;
+    }
+
+    public Cursor iterator() {
+        return breadthFirst ? new BfsCursor() : new DfsCursor();
+    }
+
+    public IntStream stream() {
+        Cursor cursor = iterator();
+        Spliterator.OfInt spliterator = new Spliterators.AbstractIntSpliterator(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(IntConsumer action) {
+                if (!cursor.hasNext()) return false;
+                action.accept(cursor.nextInt());
+                return true;
+            }
+        };
+        return StreamSupport.intStream(spliterator, false);
+    }
+
+    /**
+     * Iterator over the traversal that also reports the depth of the last returned vertex.
+     */
+    public abstract class Cursor implements PrimitiveIterator.OfInt {
+        final VisitedSet visited = new VisitedSet();
+        long returned;
+
+        /**
+         * Depth of the vertex last returned by {@link #nextInt()}.
+         */
+        public abstract int depth();
+
+        abstract boolean advance();
+
+        abstract int take();
+
+        @Override
+        public boolean hasNext() {
+            return returned < maxVertices && advance();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            returned++;
+            return take();
+        }
+    }
+
+    private final class BfsCursor extends Cursor {
+        private final IntArrayList queue = new IntArrayList();
+        private final IntArrayList depths = new IntArrayList();
+        private int head;
+        private int expanded;
+        private int returnDepth = -1;
+
+        BfsCursor() {
+            visited.add(source);
+            queue.add(source);
+            depths.add(0);
+        }
+
+        @Override
+        public int depth() {
+            return returnDepth;
+        }
+
+        @Override
+        boolean advance() {
+            // Expand already returned vertices only until an unreturned one is queued.
+            while (head == queue.size() && expanded < head) {
+                int u = queue.get(expanded);
+                int depth = depths.get(expanded++);
+                if (depth >= maxDepth) continue;
+                for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                    int v = graph.target(e);
+                    if (visited.add(v)) {
+                        queue.add(v);
+                        depths.add(depth + 1);
+                    }
+                }
+            }
+            return head < queue.size();
+        }
+
+        @Override
+        int take() {
+            int depth = depths.get(head);
+            if (depth != returnDepth) {
+                returnDepth = depth;
+                if (onLevel != null) onLevel.accept(depth);
+            }
+            return queue.get(head++);
+        }
+    }
+
+    private final class DfsCursor extends Cursor {
+        private final IntArrayList vertexStack = new IntArrayList();
+        private final IntArrayList edgeStack = new IntArrayList();
+        private boolean sourcePending = true;
+        private int pending = -1;
+        private int lastDepth = -1;
+
+        @Override
+        public int depth() {
+            return lastDepth;
+        }
+
+        @Override
+        boolean advance() {
+            if (pending >= 0) return true;
+            if (sourcePending) {
+                sourcePending = false;
+                visited.add(source);
+                push(source);
+                pending = source;
+                return true;
+            }
+            while (!vertexStack.isEmpty()) {
+                int top = vertexStack.size() - 1;
+                int u = vertexStack.get(top);
+                int e = edgeStack.get(top);
+                if (top < maxDepth && e < graph.edgeEnd(u)) {
+                    edgeStack.set(top, e + 1);
+                    int v = graph.target(e);
+                    if (visited.add(v)) {
+                        push(v);
+                        pending = v;
+                        return true;
+                    }
+                } else {
+                    vertexStack.removeLast();
+                    edgeStack.removeLast();
+                }
+            }
+            return false;
+        }
+
+        @Override
+        int take() {
+            int v = pending;
+            pending = -1;
+            lastDepth = vertexStack.size() - 1;
+            return v;
+        }
+
+        private void push(int v) {
+            vertexStack.add(v);
+            edgeStack.add(graph.edgeStart(v));
+        }
+    }
+
+    /**
+     * Open-addressing set of non-negative ints with linear probing; grows with its contents
+     * instead of with the graph.
+     */
+    static final class VisitedSet {
+        private int[] slots = new int[16];
+        private int size;
+
+        VisitedSet() {
+            Arrays.fill(slots, -1);
+        }
+
+        /**
+         * @return true if {@code v} was not in the set
+         */
+        boolean add(int v) {
+            if (2 * (size + 1) > slots.length) grow();
+            int mask = slots.length - 1;
+            int i = mix(v) & mask;
+            while (slots[i] != -1) {
+                if (slots[i] == v) return false;
+                i = (i + 1) & mask;
+            }
+            slots[i] = v;
+            size++;
+            return true;
+        }
+
+        private void grow() {
+            int[] old = slots;
+            slots = new int[old.length * 2];
+            Arrays.fill(slots, -1);
+            int mask = slots.length - 1;
+            for (int v : old) {
+                if (v == -1) continue;
+                int i = mix(v) & mask;
+                while (slots[i] != -1) i = (i + 1) & mask;
+                slots[i] = v;
+            }
+        }
+
+        private static int mix(int v) {
+            int h = v * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+
+    public static void main(String[] args) {
+        CsrGraph graph = new CsrGraph.Builder(8)
+                .addEdge(0, 1)
+                .addEdge(0, 4)
+                .addEdge(4, 3)
+                .addEdge(1, 2)
+                .addEdge(1, 5)
+                .addEdge(3, 2)
+                .addEdge(5, 6)
+                .addEdge(6, 7)
+                .build();
+
+        System.out.print("BFS by level:");
+        bfs(graph, 0).onLevel(depth -> System.out.print(" | " + depth + ":"))
+                .stream()
+                .forEach(v -> System.out.print(" " + v));
+        System.out.println();
+
+        System.out.println("BFS depth <= 1: " + Arrays.toString(bfs(graph, 0).maxDepth(1).stream().toArray()));
+        System.out.println("DFS first 4:    " + Arrays.toString(dfs(graph, 0).maxVertices(4).stream().toArray()));
+        System.out.println("DFS depth <= 2: " + Arrays.toString(dfs(graph, 0).maxDepth(2).stream().toArray()));
+        System.out.println("First BFS vertex > 4: " + bfs(graph, 0).stream().filter(v -> v > 4).findFirst().getAsInt());
+    }
+}
@@ -0,0 +1,273 @@
+package org.allincodec.java.graphs.traversal;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.allincodec.java.graphs.IntArrayList;
+import org.allincodec.java.graphs.IntGraph;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Level-synchronous, direction-optimizing parallel BFS (Beamer et al.).
+ *
+ * <p>Each level is expanded on a {@link ForkJoinPool} in one of two ways:</p>
+ * <ul>
+ *   <li><b>Top-down</b>: the frontier is a plain array of vertices, split into ranges of
+ *   {@value #GRAIN} vertices. Every frontier vertex scans its out-edges and claims unvisited
+ *   neighbours with a CAS on the visited bitset; each task collects what it claimed in its own
+ *   list and the lists are concatenated into the next frontier. A level costs only its
+ *   frontier and their edges, and a frontier of at most {@value #GRAIN} vertices is expanded
+ *   in the calling thread, so a long, thin graph such as a chain runs as fast as a
+ *   sequential BFS.</li>
+ *   <li><b>Bottom-up</b>: the frontier is first copied into a bitset of {@code ceil(V / 64)}
+ *   words, then every unvisited vertex scans its in-edges and stops at the first parent found
+ *   in it. Cheap once the frontier covers a large part of the graph, because most in-edge
+ *   scans end after a few probes. Each task owns whole visited words, so no CAS is needed.
+ *   Afterwards only the words the frontier set are cleared.</li>
+ * </ul>
+ *
+ * <p>The engine switches to bottom-up when the edges leaving the frontier exceed
+ * {@code 1/ALPHA} of the edges still leaving unvisited vertices and the frontier holds at
+ * least {@code V / BETA} vertices, and back to top-down once it shrinks below
+ * {@code V / BETA}. Bottom-up levels touch every vertex, but frontiers are disjoint, so there
+ * are at most {@code BETA} of them.</p>
+ *
+ * <pre>
+ * ParallelBFS bfs = new ParallelBFS(graph.freeze());
+ * ParallelBFS.Result r = bfs.search(0);
+ * r.distances()[v]  // hops from source, -1 if unreachable
+ * r.parents()[v]    // BFS tree parent, source is its own parent, -1 if unreachable
+ * </pre>
+ *
+ * Time Complexity: O(V + E) work per search (at most BETA bottom-up levels of O(V + E) each,
+ * top-down levels proportional to their frontier), O(D) synchronized levels for diameter D
+ * Space Complexity: O(V) for distances, parents, two bitsets and the frontier arrays
+ */
+public final class ParallelBFS {
+
+    private static final int ALPHA = 14;
+    private static final int BETA = 24;
+    private static final int GRAIN = 2048;
+    private static final int GRAIN_WORDS = 32;
+
+    private final IntGraph forward;
+    private final IntGraph reverse;
+    private final ForkJoinPool pool;
+
+    public record Result(int[] distances, int[] parents) {
+    }
+
+    public ParallelBFS(CsrGraph graph) {
+        this(graph, graph.transpose(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param forward the graph to search
+     * @param reverse the same graph with every edge reversed, used by bottom-up levels
+     * @param pool    pool that runs the per-level tasks
+     */
+    public ParallelBFS(IntGraph forward, IntGraph reverse, ForkJoinPool pool) {
+        if (forward.vertices() != reverse.vertices()) {
+            throw new IllegalArgumentException("forward and reverse graphs differ in vertex count");
+        }
+        this.forward = forward;
+        this.reverse = reverse;
+        this.pool = pool;
+    }
+
+    public Result search(int source) {
+        int n = forward.vertices();
+        int words = (n + 63) >>> 6;
+        int[] distances = new int[n];
+        int[] parents = new int[n];
+        Arrays.fill(distances, -1);
+        Arrays.fill(parents, -1);
+
+        AtomicLongArray visited = new AtomicLongArray(words);
+        AtomicLongArray frontierBits = new AtomicLongArray(words); // only set during bottom-up levels
+
+        distances[source] = 0;
+        parents[source] = source;
+        visited.set(source >>> 6, 1L << source);
+
+        int[] frontier = {source};
+        long frontierEdges = forward.outDegree(source);
+        long unexploredEdges = forward.edges() - frontierEdges;
+        boolean bottomUp = false;
+
+        for (int level = 0; frontier.length > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / ALPHA && frontier.length >= n / BETA) {
+                bottomUp = true;
+            } else if (bottomUp && frontier.length < n / BETA) {
+                bottomUp = false;
+            }
+
+            ConcurrentLinkedQueue<IntArrayList> found = new ConcurrentLinkedQueue<>();
+            LevelTask task;
+            if (bottomUp) {
+                for (int u : frontier) {
+                    frontierBits.set(u >>> 6, frontierBits.get(u >>> 6) | 1L << u);
+                }
+                task = new LevelTask(true, level, 0, words, frontier, frontierBits, visited,
+                        distances, parents, found);
+                pool.invoke(task);
+                for (int u : frontier) {
+                    frontierBits.set(u >>> 6, 0L);
+                }
+            } else {
+                task = new LevelTask(false, level, 0, frontier.length, frontier, frontierBits, visited,
+                        distances, parents, found);
+                if (frontier.length <= GRAIN) {
+                    task.compute();
+                } else {
+                    pool.invoke(task);
+                }
+            }
+
+            frontierEdges = task.discoveredEdges;
+            unexploredEdges -= frontierEdges;
+
+            int[] next = new int[task.discovered];
+            int k = 0;
+            for (IntArrayList list : found) {
+                for (int i = 0; i < list.size(); i++) {
+                    next[k++] = list.get(i);
+                }
+            }
+            frontier = next;
+        }
+        return new Result(distances, parents);
+    }
+
+    /**
+     * One level over {@code [from, to)}: frontier indices top-down, bitset words bottom-up.
+     */
+    private final class LevelTask extends RecursiveAction {
+        private final boolean bottomUp;
+        private final int level;
+        private final int from;
+        private final int to;
+        private final int[] frontier;
+        private final AtomicLongArray frontierBits;
+        private final AtomicLongArray visited;
+        private final int[] distances;
+        private final int[] parents;
+        private final ConcurrentLinkedQueue<IntArrayList> found;
+
+        int discovered;
+        long discoveredEdges;
+
+        LevelTask(boolean bottomUp, int level, int from, int to,
+                  int[] frontier, AtomicLongArray frontierBits, AtomicLongArray visited,
+                  int[] distances, int[] parents, ConcurrentLinkedQueue<IntArrayList> found) {
+            this.bottomUp = bottomUp;
+            this.level = level;
+            this.from = from;
+            this.to = to;
+            this.frontier = frontier;
+            this.frontierBits = frontierBits;
+            this.visited = visited;
+            this.distances = distances;
+            this.parents = parents;
+            this.found = found;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > (bottomUp ? GRAIN_WORDS : GRAIN)) {
+                int mid = (from + to) >>> 1;
+                LevelTask left = new LevelTask(bottomUp, level, from, mid,
+                        frontier, frontierBits, visited, distances, parents, found);
+                LevelTask right = new LevelTask(bottomUp, level, mid, to,
+                        frontier, frontierBits, visited, distances, parents, found);
+                invokeAll(left, right);
+                discovered = left.discovered + right.discovered;
+                discoveredEdges = left.discoveredEdges + right.discoveredEdges;
+                return;
+            }
+            IntArrayList local = new IntArrayList();
+            if (bottomUp) {
+                bottomUpStep(local);
+            } else {
+                topDownStep(local);
+            }
+            discovered = local.size();
+            if (!local.isEmpty()) found.add(local);
+        }
+
+        private void topDownStep(IntArrayList local) {
+            for (int i = from; i < to; i++) {
+                int u = frontier[i];
+                for (int e = forward.edgeStart(u), end = forward.edgeEnd(u); e < end; e++) {
+                    int v = forward.target(e);
+                    if (claim(v)) {
+                        distances[v] = level + 1;
+                        parents[v] = u;
+                        local.add(v);
+                        discoveredEdges += forward.outDegree(v);
+                    }
+                }
+            }
+        }
+
+        private void bottomUpStep(IntArrayList local) {
+            int n = forward.vertices();
+            for (int w = from; w < to; w++) {
+                long seen = visited.get(w);
+                if (seen == -1L) continue;
+                long claimed = 0L;
+                int base = w << 6;
+                int limit = Math.min(64, n - base);
+                for (int bit = 0; bit < limit; bit++) {
+                    if ((seen & (1L << bit)) != 0) continue;
+                    int v = base + bit;
+                    for (int e = reverse.edgeStart(v), end = reverse.edgeEnd(v); e < end; e++) {
+                        int u = reverse.target(e);
+                        if ((frontierBits.get(u >>> 6) & (1L << u)) != 0) {
+                            distances[v] = level + 1;
+                            parents[v] = u;
+                            claimed |= 1L << bit;
+                            local.add(v);
+                            discoveredEdges += forward.outDegree(v);
+                            break;
+                        }
+                    }
+                }
+                if (claimed != 0) {
+                    visited.set(w, seen | claimed);
+                }
+            }
+        }
+
+        private boolean claim(int v) {
+            int w = v >>> 6;
+            long mask = 1L << v;
+            long current = visited.get(w);
+            while ((current & mask) == 0) {
+                if (visited.compareAndSet(w, current, current | mask)) {
+                    return true;
+                }
+                current = visited.get(w);
+            }
+            return false;
+        }
+    }
+
+    public static void main(String[] args) {
+        CsrGraph graph = new CsrGraph.Builder(8)
+                .addEdge(0, 1)
+                .addEdge(0, 4)
+                .addEdge(4, 3)
+                .addEdge(1, 2)
+                .addEdge(1, 5)
+                .addEdge(3, 2)
+                .addEdge(5, 6)
+                .build();
+        Result result = new ParallelBFS(graph).search(0);
+        System.out.println("Distances: " + Arrays.toString(result.distances()));
+        System.out.println("Parents:   " + Arrays.toString(result.parents()));
+    }
+}
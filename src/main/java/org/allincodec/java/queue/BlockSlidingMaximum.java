@@ -0,0 +1,267 @@
+package org.allincodec.java.queue;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Sliding Window Maximum by block decomposition (van Herk / Gil-Werman), split across a
+ * {@link ForkJoinPool}.
+ *
+ * <p>Same problem and result as {@link ParkingIceCreamTruck#slidingMaximum}, without the
+ * deque. Cut A into blocks of B. Every window of length B covers the tail of one block and
+ * the head of the next, so its max is the max of a block suffix and a block prefix:</p>
+ * <pre>
+ * A = [5, 12, 3 | 4, 8, 10 | 2, 7], B = 3
+ * suffix max    [12, 12, 3 | 10, 10, 10 | 7, 7]
+ * prefix max    [5, 12, 12 | 4, 8, 10 | 2, 7]
+ * out[i] = max(suffix[i], prefix[i + B - 1])
+ * out    = [12, 12, 8, 10, 10, 10]
+ * </pre>
+ *
+ * <p>The loops are plain running maxima with no data-dependent branches, which the JIT can
+ * unroll and vectorise. Output block {@code b} reads only input blocks {@code b} and
+ * {@code b + 1}, so blocks are independent and are handed out to the pool in groups of about
+ * {@value #GRAIN} elements. No prefix or suffix arrays are kept: the suffix pass writes into
+ * the output and the prefix pass folds into it, so the only allocation is the result.</p>
+ *
+ * <p>When B itself exceeds {@value #GRAIN} there are too few blocks to share out (with
+ * B &gt;= N / 2, only one or two), so each block is cut into chunks of {@value #GRAIN}
+ * instead. A first parallel pass takes the max of every chunk; the carries (max of the later
+ * chunks of the same block for the suffix scan, of the earlier chunks of the next block for
+ * the prefix scan) are combined sequentially from those few maxima; a second parallel pass
+ * runs both scans chunk by chunk, seeded with the carries. That reads A twice, so about
+ * 4 comparisons per element.</p>
+ *
+ * <p>Worth it for large arrays and large B; below {@value #GRAIN} elements everything runs in
+ * the calling thread.</p>
+ *
+ * Time Complexity: O(N) work and O(N / P) per core on both paths; about 3 comparisons per
+ * element for B &lt;= GRAIN, about 4 for B &gt; GRAIN (A is read twice)
+ * Space Complexity: O(1) besides the output, O(N / GRAIN) carries when B &gt; GRAIN
+ */
+public class BlockSlidingMaximum {
+
+    static final int GRAIN = 1 << 16;
+
+    private final ForkJoinPool pool;
+
+    public BlockSlidingMaximum() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    public BlockSlidingMaximum(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * @return the maximum of each B consecutive elements; a single element with the max of
+     * the array if B &gt; length, as in {@link ParkingIceCreamTruck#slidingMaximum}
+     */
+    public int[] slidingMaximum(final int[] A, int B) {
+        if (B < 1) throw new IllegalArgumentException("B must be >= 1: " + B);
+        if (A.length == 0) throw new IllegalArgumentException("A must not be empty");
+        if (B > A.length) B = A.length;
+
+        int[] out = new int[A.length - B + 1];
+        int blocks = (out.length + B - 1) / B;
+        if (B > GRAIN) {
+            chunked(A, B, out, blocks);
+            return out;
+        }
+        int blocksPerTask = Math.max(1, GRAIN / B);
+        if (blocks <= blocksPerTask) {
+            blockRange(A, B, out, 0, blocks);
+        } else {
+            pool.invoke(new BlockTask(A, B, out, 0, blocks, blocksPerTask));
+        }
+        return out;
+    }
+
+    /**
+     * Fills {@code out} for output blocks {@code [from, to)}.
+     */
+    private static void blockRange(int[] A, int B, int[] out, int from, int to) {
+        int last = out.length - 1;
+        for (int b = from; b < to; b++) {
+            int start = b * B;
+            int blockEnd = Math.min(start + B, A.length);
+
+            // Suffix maxima of block b, stored for the positions that start a window.
+            int max = Integer.MIN_VALUE;
+            int i = blockEnd - 1;
+            for (; i > last; i--) max = Math.max(max, A[i]);
+            for (; i >= start; i--) {
+                max = Math.max(max, A[i]);
+                out[i] = max;
+            }
+
+            // Prefix maxima of block b + 1 complete the windows that start after the block head.
+            max = Integer.MIN_VALUE;
+            int outEnd = Math.min(start + B, out.length);
+            for (int o = start + 1, j = start + B; o < outEnd; o++, j++) {
+                max = Math.max(max, A[j]);
+                out[o] = Math.max(out[o], max);
+            }
+        }
+    }
+
+    /**
+     * Large-B path: every block is cut into {@code chunksPerBlock} chunks of {@link #GRAIN},
+     * chunk {@code c} being chunk {@code c % chunksPerBlock} of block {@code c / chunksPerBlock}.
+     * Output chunk {@code k} of block {@code b} needs chunk {@code k} of input blocks {@code b}
+     * and {@code b + 1}, hence the maxima of blocks {@code 0..blocks}.
+     */
+    private void chunked(int[] A, int B, int[] out, int blocks) {
+        int chunksPerBlock = (B + GRAIN - 1) / GRAIN;
+        int[] chunkMax = new int[(blocks + 1) * chunksPerBlock];
+        pool.invoke(new ChunkTask(A, B, out, chunksPerBlock, chunkMax, null, null, 0, chunkMax.length));
+
+        // suffixCarry[c]: max of the chunks after c in its block; prefixCarry[c]: before c.
+        int[] suffixCarry = new int[chunkMax.length];
+        int[] prefixCarry = new int[chunkMax.length];
+        for (int first = 0; first < chunkMax.length; first += chunksPerBlock) {
+            int max = Integer.MIN_VALUE;
+            for (int c = first + chunksPerBlock - 1; c >= first; c--) {
+                suffixCarry[c] = max;
+                max = Math.max(max, chunkMax[c]);
+            }
+            max = Integer.MIN_VALUE;
+            for (int c = first; c < first + chunksPerBlock; c++) {
+                prefixCarry[c] = max;
+                max = Math.max(max, chunkMax[c]);
+            }
+        }
+        pool.invoke(new ChunkTask(A, B, out, chunksPerBlock, chunkMax, suffixCarry, prefixCarry,
+                0, blocks * chunksPerBlock));
+    }
+
+    /**
+     * First input index of chunk {@code c}, or A.length if it lies past the end.
+     */
+    private static int chunkStart(int[] A, int B, int chunksPerBlock, int c) {
+        long start = (long) (c / chunksPerBlock) * B + (long) (c % chunksPerBlock) * GRAIN;
+        return (int) Math.min(start, A.length);
+    }
+
+    private static int chunkEnd(int[] A, int B, int chunksPerBlock, int c) {
+        long blockStart = (long) (c / chunksPerBlock) * B;
+        long end = Math.min(blockStart + (long) (c % chunksPerBlock + 1) * GRAIN, blockStart + B);
+        return (int) Math.min(end, A.length);
+    }
+
+    /**
+     * Output positions of chunk {@code c}: suffix scan of the chunk seeded with its carry, then
+     * the prefix scan of the same chunk of the next block folded in.
+     */
+    private static void chunkRange(int[] A, int B, int[] out, int chunksPerBlock,
+                                   int[] suffixCarry, int[] prefixCarry, int c) {
+        int last = out.length - 1;
+        int start = chunkStart(A, B, chunksPerBlock, c);
+        if (start > last) return;
+        int end = chunkEnd(A, B, chunksPerBlock, c);
+
+        int max = suffixCarry[c];
+        int i = end - 1;
+        for (; i > last; i--) max = Math.max(max, A[i]);
+        for (; i >= start; i--) {
+            max = Math.max(max, A[i]);
+            out[i] = max;
+        }
+
+        // Window starting at o ends at o + B - 1, in the same chunk of the next block.
+        max = prefixCarry[c + chunksPerBlock];
+        int outEnd = Math.min(end, out.length);
+        out[start] = Math.max(out[start], max);
+        for (int o = start + 1; o < outEnd; o++) {
+            max = Math.max(max, A[o + B - 1]);
+            out[o] = Math.max(out[o], max);
+        }
+    }
+
+    /**
+     * Chunks {@code [from, to)}: records their maxima when the carries are still null, fills
+     * their output otherwise.
+     */
+    private static final class ChunkTask extends RecursiveAction {
+        private final int[] A;
+        private final int B;
+        private final int[] out;
+        private final int chunksPerBlock;
+        private final int[] chunkMax;
+        private final int[] suffixCarry;
+        private final int[] prefixCarry;
+        private final int from;
+        private final int to;
+
+        ChunkTask(int[] A, int B, int[] out, int chunksPerBlock, int[] chunkMax,
+                  int[] suffixCarry, int[] prefixCarry, int from, int to) {
+            this.A = A;
+            this.B = B;
+            this.out = out;
+            this.chunksPerBlock = chunksPerBlock;
+            this.chunkMax = chunkMax;
+            this.suffixCarry = suffixCarry;
+            this.prefixCarry = prefixCarry;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                invokeAll(new ChunkTask(A, B, out, chunksPerBlock, chunkMax, suffixCarry, prefixCarry, from, mid),
+                        new ChunkTask(A, B, out, chunksPerBlock, chunkMax, suffixCarry, prefixCarry, mid, to));
+                return;
+            }
+            if (suffixCarry != null) {
+                chunkRange(A, B, out, chunksPerBlock, suffixCarry, prefixCarry, from);
+                return;
+            }
+            int max = Integer.MIN_VALUE;
+            for (int i = chunkStart(A, B, chunksPerBlock, from), end = chunkEnd(A, B, chunksPerBlock, from); i < end; i++) {
+                max = Math.max(max, A[i]);
+            }
+            chunkMax[from] = max;
+        }
+    }
+
+    private static final class BlockTask extends RecursiveAction {
+        private final int[] A;
+        private final int B;
+        private final int[] out;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        BlockTask(int[] A, int B, int[] out, int from, int to, int grain) {
+            this.A = A;
+            this.B = B;
+            this.out = out;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                blockRange(A, B, out, from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new BlockTask(A, B, out, from, mid, grain), new BlockTask(A, B, out, mid, to, grain));
+        }
+    }
+
+    public static void main(String[] args) {
+        BlockSlidingMaximum block = new BlockSlidingMaximum();
+        System.out.println(Arrays.toString(block.slidingMaximum(new int[]{5, 12, 3, 4, 8, 10, 2, 7}, 3)));
+        // [12, 12, 8, 10, 10, 10]
+        System.out.println(Arrays.toString(block.slidingMaximum(new int[]{1, 3, -1, -3, 5, 3, 6, 7}, 3)));
+        // [3, 3, 5, 5, 6, 7]
+        System.out.println(Arrays.toString(block.slidingMaximum(new int[]{10, 9, 8, 7, 6, 5, 4, 3, 2, 1}, 2)));
+        // [10, 9, 8, 7, 6, 5, 4, 3, 2]
+    }
+}
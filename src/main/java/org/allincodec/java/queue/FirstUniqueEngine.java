@@ -0,0 +1,174 @@
+package org.allincodec.java.queue;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Many independent first-non-repeating-character streams, keyed by a {@code long} (a session
+ * or connection id), each a {@link FirstUniqueStream}.
+ *
+ * <p>Streams are created on their first character and looked up in an open-addressing table
+ * of primitive keys with linear probing, so routing a character costs no boxing. Ended
+ * sessions are dropped with {@link #remove}, which shifts later entries of the probe run back
+ * instead of leaving tombstones.</p>
+ *
+ * <pre>
+ * accept(7, 'h')  accept(9, 'h')  accept(7, 'h')  accept(7, 'i')
+ * stream 7: h     stream 9: h     stream 7: #     stream 7: i
+ * </pre>
+ *
+ * <p>Not thread-safe; to spread streams over threads, give each thread its own engine and
+ * route by key.</p>
+ *
+ * Time Complexity: O(1) amortised per character
+ * Space Complexity: O(streams + sum of per-stream distinct code points), each stream capped
+ * at {@code maxDistinctPerStream}
+ */
+public final class FirstUniqueEngine {
+
+    private final int maxDistinctPerStream;
+
+    private long[] keys;
+    private FirstUniqueStream[] streams; // null for an empty slot
+    private int mask;
+    private int size;
+
+    public FirstUniqueEngine() {
+        this(Character.MAX_CODE_POINT + 1);
+    }
+
+    /**
+     * @param maxDistinctPerStream distinct code points a stream keeps before it starts over
+     */
+    public FirstUniqueEngine(int maxDistinctPerStream) {
+        if (maxDistinctPerStream < 1) {
+            throw new IllegalArgumentException("maxDistinctPerStream must be >= 1: " + maxDistinctPerStream);
+        }
+        this.maxDistinctPerStream = maxDistinctPerStream;
+        this.keys = new long[16];
+        this.streams = new FirstUniqueStream[16];
+        this.mask = 15;
+    }
+
+    /**
+     * Feeds one code point to stream {@code key}, creating the stream if needed.
+     *
+     * @return the stream's first unique code point, or {@link FirstUniqueStream#NONE}
+     */
+    public int accept(long key, int codePoint) {
+        return stream(key).accept(codePoint);
+    }
+
+    /**
+     * Feeds every code point of {@code text} to stream {@code key}.
+     *
+     * @return the stream's first unique code point afterwards, or {@link FirstUniqueStream#NONE}
+     */
+    public int accept(long key, CharSequence text) {
+        return stream(key).accept(text);
+    }
+
+    /**
+     * @return the first unique code point of stream {@code key}; {@link FirstUniqueStream#NONE}
+     * if it has none or does not exist
+     */
+    public int firstUnique(long key) {
+        int slot = slotOf(key);
+        return streams[slot] == null ? FirstUniqueStream.NONE : streams[slot].firstUnique();
+    }
+
+    public boolean contains(long key) {
+        return streams[slotOf(key)] != null;
+    }
+
+    /**
+     * The stream for {@code key}, created empty if absent.
+     */
+    public FirstUniqueStream stream(long key) {
+        int slot = slotOf(key);
+        FirstUniqueStream stream = streams[slot];
+        if (stream != null) return stream;
+        if (2 * (size + 1) > keys.length) {
+            grow();
+            slot = slotOf(key);
+        }
+        stream = new FirstUniqueStream(maxDistinctPerStream);
+        keys[slot] = key;
+        streams[slot] = stream;
+        size++;
+        return stream;
+    }
+
+    /**
+     * Drops stream {@code key} and its memory.
+     *
+     * @return whether the stream existed
+     */
+    public boolean remove(long key) {
+        int slot = slotOf(key);
+        if (streams[slot] == null) return false;
+        streams[slot] = null;
+        size--;
+        // Backward-shift deletion: move up any later entry whose home slot no longer reaches it.
+        int gap = slot;
+        for (int i = (gap + 1) & mask; streams[i] != null; i = (i + 1) & mask) {
+            int home = home(keys[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                streams[gap] = streams[i];
+                streams[i] = null;
+                gap = i;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the number of live streams
+     */
+    public int size() {
+        return size;
+    }
+
+    public void forEachKey(LongConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (streams[i] != null) action.accept(keys[i]);
+        }
+    }
+
+    private int home(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private int slotOf(long key) {
+        int slot = home(key);
+        while (streams[slot] != null && keys[slot] != key) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        FirstUniqueStream[] oldStreams = streams;
+        keys = new long[oldKeys.length * 2];
+        streams = new FirstUniqueStream[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldStreams[i] == null) continue;
+            int slot = slotOf(oldKeys[i]);
+            keys[slot] = oldKeys[i];
+            streams[slot] = oldStreams[i];
+        }
+    }
+
+    public static void main(String[] args) {
+        FirstUniqueEngine engine = new FirstUniqueEngine(1 << 12);
+        System.out.println(Character.toString(engine.accept(7, 'h'))); // h
+        System.out.println(Character.toString(engine.accept(9, 'h'))); // h
+        System.out.println(engine.accept(7, 'h') == FirstUniqueStream.NONE ? "#" : "?"); // #
+        System.out.println(Character.toString(engine.accept(7, "i ¡hola! 👋"))); // i
+        engine.remove(9);
+        System.out.println(engine.size() + " " + engine.contains(9)); // 1 false
+    }
+}
@@ -0,0 +1,208 @@
+package org.allincodec.java.queue;
+
+import java.util.Arrays;
+
+/**
+ * First non-repeating character of a stream, over full Unicode, one code point at a time.
+ *
+ * <p>The streaming, primitive counterpart of {@link UniqueLetter}. Every distinct code point
+ * seen gets a node. Nodes of code points seen exactly once form a doubly linked candidate
+ * list in arrival order, so the answer is always the head:</p>
+ * <pre>
+ * accept  a  b  c  a  b  c  ü  😀
+ * list    a  ab abc bc c  -  ü  ü😀
+ * answer  a  a  a  b  c  #  ü  ü
+ * </pre>
+ * <ul>
+ *   <li>A new code point is appended to the tail.</li>
+ *   <li>A second occurrence unlinks its node in O(1) and marks it repeated; it never comes
+ *   back.</li>
+ * </ul>
+ *
+ * <p>Nodes are parallel {@code int} arrays linked by index, found through an open-addressing
+ * table keyed by code point, so nothing is boxed or allocated per character. Memory is about
+ * 20 bytes per distinct code point and starts small, which keeps thousands of streams cheap
+ * (see {@link FirstUniqueEngine}). It is bounded by {@code maxDistinct}: a stream that would
+ * exceed it starts over, as if its session had restarted, and {@link #restarts()} counts how
+ * often that happened.</p>
+ *
+ * Time Complexity: O(1) amortised per code point
+ * Space Complexity: O(min(distinct code points, maxDistinct))
+ */
+public final class FirstUniqueStream {
+
+    /** Returned when every code point seen so far repeats. */
+    public static final int NONE = -1;
+
+    private static final int REPEATED = -2;
+    private static final int INITIAL_NODES = 8;
+
+    private final int maxDistinct;
+
+    private int[] codePoints;
+    private int[] prev; // REPEATED once a code point is seen twice
+    private int[] next;
+    private int nodes;
+    private int head = -1;
+    private int tail = -1;
+
+    private int[] table; // node index + 1, 0 for empty
+    private int tableMask;
+
+    private long restarts;
+
+    public FirstUniqueStream() {
+        this(Character.MAX_CODE_POINT + 1);
+    }
+
+    /**
+     * @param maxDistinct distinct code points kept before the stream starts over
+     */
+    public FirstUniqueStream(int maxDistinct) {
+        if (maxDistinct < 1) throw new IllegalArgumentException("maxDistinct must be >= 1: " + maxDistinct);
+        this.maxDistinct = maxDistinct;
+        allocate();
+    }
+
+    private void allocate() {
+        codePoints = new int[INITIAL_NODES];
+        prev = new int[INITIAL_NODES];
+        next = new int[INITIAL_NODES];
+        table = new int[2 * INITIAL_NODES];
+        tableMask = table.length - 1;
+    }
+
+    /**
+     * Feeds one code point.
+     *
+     * @return the first code point seen exactly once so far, or {@link #NONE}
+     */
+    public int accept(int codePoint) {
+        if (!Character.isValidCodePoint(codePoint)) {
+            throw new IllegalArgumentException("Not a code point: " + codePoint);
+        }
+        int slot = slotOf(codePoint);
+        int node = table[slot] - 1;
+        if (node < 0) {
+            if (nodes == maxDistinct) {
+                reset();
+                restarts++;
+                slot = slotOf(codePoint);
+            }
+            if (nodes == codePoints.length) {
+                grow();
+                slot = slotOf(codePoint);
+            }
+            node = nodes++;
+            table[slot] = node + 1;
+            codePoints[node] = codePoint;
+            prev[node] = tail;
+            next[node] = -1;
+            if (tail >= 0) next[tail] = node;
+            else head = node;
+            tail = node;
+        } else if (prev[node] != REPEATED) {
+            int p = prev[node];
+            int n = next[node];
+            if (p >= 0) next[p] = n;
+            else head = n;
+            if (n >= 0) prev[n] = p;
+            else tail = p;
+            prev[node] = REPEATED;
+        }
+        return firstUnique();
+    }
+
+    /**
+     * Feeds every code point of {@code text}; surrogate pairs count as one character.
+     *
+     * @return the first unique code point after the last one, or {@link #NONE}
+     */
+    public int accept(CharSequence text) {
+        for (int i = 0; i < text.length(); ) {
+            int codePoint = Character.codePointAt(text, i);
+            accept(codePoint);
+            i += Character.charCount(codePoint);
+        }
+        return firstUnique();
+    }
+
+    /**
+     * @return the first code point seen exactly once so far, or {@link #NONE}
+     */
+    public int firstUnique() {
+        return head < 0 ? NONE : codePoints[head];
+    }
+
+    /**
+     * @return the number of distinct code points the stream currently remembers
+     */
+    public int distinct() {
+        return nodes;
+    }
+
+    /**
+     * @return how many times the stream started over on reaching {@code maxDistinct}
+     */
+    public long restarts() {
+        return restarts;
+    }
+
+    /**
+     * Forgets everything seen; capacity grown so far is kept.
+     */
+    public void reset() {
+        Arrays.fill(table, 0);
+        nodes = 0;
+        head = -1;
+        tail = -1;
+    }
+
+    /**
+     * Releases grown capacity as well as the contents, e.g. for an idle stream.
+     */
+    public void trim() {
+        reset();
+        allocate();
+    }
+
+    private int slotOf(int codePoint) {
+        int h = codePoint * 0x9E3779B9;
+        int slot = (h ^ (h >>> 16)) & tableMask;
+        while (table[slot] != 0 && codePoints[table[slot] - 1] != codePoint) {
+            slot = (slot + 1) & tableMask;
+        }
+        return slot;
+    }
+
+    /**
+     * Doubles the node arrays and the table. Node indices stay put, so the list links do too.
+     */
+    private void grow() {
+        int capacity = codePoints.length * 2;
+        codePoints = Arrays.copyOf(codePoints, capacity);
+        prev = Arrays.copyOf(prev, capacity);
+        next = Arrays.copyOf(next, capacity);
+        table = new int[2 * capacity];
+        tableMask = table.length - 1;
+        for (int node = 0; node < nodes; node++) {
+            table[slotOf(codePoints[node])] = node + 1;
+        }
+    }
+
+    public static void main(String[] args) {
+        FirstUniqueStream stream = new FirstUniqueStream();
+        StringBuilder answers = new StringBuilder();
+        "abcabcü😀".codePoints().forEach(c -> {
+            int first = stream.accept(c);
+            answers.appendCodePoint(first == NONE ? '#' : first);
+        });
+        System.out.println(answers); // aaabc#üü
+
+        FirstUniqueStream small = new FirstUniqueStream(3);
+        small.accept("aabc");
+        System.out.println(Character.toString(small.firstUnique()) + " " + small.restarts()); // b 0
+        small.accept('d'); // a, b, c already remembered: starts over with d
+        System.out.println(Character.toString(small.firstUnique()) + " " + small.restarts()); // d 1
+    }
+}
@@ -0,0 +1,127 @@
+package org.allincodec.java.queue;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Double-ended queue of primitive {@code long}s on a fixed-size ring buffer.
+ *
+ * <p>The capacity is rounded up to a power of two so that wrapping is a mask. Nothing is
+ * allocated after construction, unless {@link #ensureCapacity} is called, and nothing is
+ * boxed, which is what the monotonic deques of the sliding-window operators need on
+ * unbounded streams.</p>
+ *
+ * <pre>
+ * capacity 8, head = 6, size = 4
+ * slots   [ c  d  .  .  .  .  a  b ]
+ *                             ^head   first = a, last = d
+ * </pre>
+ *
+ * Time Complexity: O(1) per operation
+ * Space Complexity: O(capacity)
+ */
+public final class LongRingDeque {
+
+    private long[] slots;
+    private int mask;
+    private int head;
+    private int size;
+
+    public LongRingDeque(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("capacity must be in [1, 2^30]: " + capacity);
+        }
+        this.slots = new long[roundUp(capacity)];
+        this.mask = slots.length - 1;
+    }
+
+    private static int roundUp(int capacity) {
+        return capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+    }
+
+    /**
+     * Grows the ring, keeping the elements in order, so it can hold at least {@code capacity}.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= slots.length) return;
+        if (capacity > 1 << 30) throw new IllegalArgumentException("capacity must be <= 2^30: " + capacity);
+        long[] grown = new long[roundUp(capacity)];
+        for (int i = 0; i < size; i++) {
+            grown[i] = slots[(head + i) & mask];
+        }
+        slots = grown;
+        mask = grown.length - 1;
+        head = 0;
+    }
+
+    public int capacity() {
+        return slots.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void addLast(long value) {
+        if (size == slots.length) throw new IllegalStateException("Deque is full: " + size);
+        slots[(head + size++) & mask] = value;
+    }
+
+    public void addFirst(long value) {
+        if (size == slots.length) throw new IllegalStateException("Deque is full: " + size);
+        head = (head - 1) & mask;
+        slots[head] = value;
+        size++;
+    }
+
+    public long peekFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        return slots[head];
+    }
+
+    public long peekLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return slots[(head + size - 1) & mask];
+    }
+
+    public long removeFirst() {
+        if (size == 0) throw new NoSuchElementException();
+        long value = slots[head];
+        head = (head + 1) & mask;
+        size--;
+        return value;
+    }
+
+    public long removeLast() {
+        if (size == 0) throw new NoSuchElementException();
+        return slots[(head + --size) & mask];
+    }
+
+    /**
+     * @return the {@code i}-th element from the front, {@code 0 <= i < size}
+     */
+    public long get(int i) {
+        if (i < 0 || i >= size) throw new IndexOutOfBoundsException("Index " + i + ", size " + size);
+        return slots[(head + i) & mask];
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    public static void main(String[] args) {
+        LongRingDeque deque = new LongRingDeque(3); // rounded up to 4
+        deque.addLast(1);
+        deque.addLast(2);
+        deque.addFirst(0);
+        deque.addLast(3);
+        System.out.println(deque.removeFirst() + " " + deque.removeLast()); // 0 3
+        deque.addLast(4);
+        deque.addLast(5);
+        System.out.println(deque.peekFirst() + ".." + deque.peekLast() + " size " + deque.size()); // 1..5 size 4
+    }
+}
@@ -22,6 +22,10 @@ import java.util.Deque;
  *
  * <p>NOTE: If B &gt; length of array, return a single element with the max of the array.</p>
  *
+ * <p>For unbounded streams, or max and min together without boxing, see
+ * {@link SlidingExtremes}; for large arrays on many cores, {@link BlockSlidingMaximum}; for
+ * many window sizes or arbitrary ranges over the same array, a {@link RangeMaxIndex}.</p>
+ *
  * Time Complexity: O(N) — each element is added and removed from deque at most once
  * Space Complexity: O(B) — deque holds at most B indices
  */
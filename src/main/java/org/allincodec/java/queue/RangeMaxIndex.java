@@ -0,0 +1,57 @@
+package org.allincodec.java.queue;
+
+import java.util.Objects;
+
+/**
+ * Range-maximum queries over a fixed-length int array: built once, then asked about any
+ * inclusive range {@code [l, r]} without rescanning it.
+ *
+ * <p>{@link SparseTableMax} answers in O(1) but is static; {@link SegmentTreeMax} answers in
+ * O(log N) and supports point updates. The batch methods answer many ranges into one
+ * result array.</p>
+ */
+public interface RangeMaxIndex {
+
+    int size();
+
+    /**
+     * @return the maximum of the elements at {@code l..r}, both inclusive
+     * @throws IndexOutOfBoundsException unless {@code 0 <= l <= r < size()}
+     */
+    int max(int l, int r);
+
+    /**
+     * Answers {@code max(lefts[q], rights[q])} for every query {@code q}.
+     */
+    default int[] max(int[] lefts, int[] rights) {
+        if (lefts.length != rights.length) {
+            throw new IllegalArgumentException("lefts and rights differ in length: "
+                    + lefts.length + " vs " + rights.length);
+        }
+        int[] result = new int[lefts.length];
+        for (int q = 0; q < result.length; q++) {
+            result[q] = max(lefts[q], rights[q]);
+        }
+        return result;
+    }
+
+    /**
+     * The maximum of each {@code window} consecutive elements, like
+     * {@link ParkingIceCreamTruck#slidingMaximum} but for any window size against the same index.
+     */
+    default int[] slidingMaximum(int window) {
+        if (window < 1) throw new IllegalArgumentException("window must be >= 1: " + window);
+        if (size() == 0) throw new IllegalStateException("Index is empty");
+        window = Math.min(window, size());
+        int[] result = new int[size() - window + 1];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = max(i, i + window - 1);
+        }
+        return result;
+    }
+
+    static void checkRange(int l, int r, int size) {
+        Objects.checkFromToIndex(l, r + 1, size);
+        if (l > r) throw new IndexOutOfBoundsException("Empty range [" + l + ", " + r + "]");
+    }
+}
@@ -0,0 +1,89 @@
+package org.allincodec.java.queue;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Range-maximum index with point updates, as a bottom-up segment tree in one flat array.
+ *
+ * <p>Leaves sit at {@code tree[n..2n)}, and node {@code i} holds the max of its children
+ * {@code 2i} and {@code 2i + 1}. An update rewrites one leaf and its ancestors; a query walks
+ * both ends of the range up the tree, taking the nodes that hang off the range edges:</p>
+ * <pre>
+ * A = [5, 12, 3, 4]          tree index  1    2   3   4  5   6  7
+ *                            value       12   12  4   5  12  3  4
+ * max(1, 2): l = 5, r = 7 (exclusive)
+ *   l odd  -&gt; take tree[5] = 12, l = 6 -&gt; 3;  r odd -&gt; take tree[6] = 3, r = 6 -&gt; 3
+ *   l == r, stop: 12
+ * </pre>
+ *
+ * Time Complexity: O(N) build, O(log N) per update and query
+ * Space Complexity: O(N)
+ */
+public final class SegmentTreeMax implements RangeMaxIndex {
+
+    private final int n;
+    private final int[] tree;
+
+    public SegmentTreeMax(int[] values) {
+        n = values.length;
+        tree = new int[2 * n];
+        System.arraycopy(values, 0, tree, n, n);
+        for (int i = n - 1; i > 0; i--) {
+            tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+        }
+    }
+
+    @Override
+    public int size() {
+        return n;
+    }
+
+    public int get(int index) {
+        return tree[n + Objects.checkIndex(index, n)];
+    }
+
+    public void set(int index, int value) {
+        int i = n + Objects.checkIndex(index, n);
+        tree[i] = value;
+        for (i >>= 1; i > 0; i >>= 1) {
+            int max = Math.max(tree[2 * i], tree[2 * i + 1]);
+            if (tree[i] == max) break; // ancestors are unchanged too
+            tree[i] = max;
+        }
+    }
+
+    /**
+     * Applies {@code set(indices[u], values[u])} for every update {@code u}, in order.
+     */
+    public void set(int[] indices, int[] values) {
+        if (indices.length != values.length) {
+            throw new IllegalArgumentException("indices and values differ in length: "
+                    + indices.length + " vs " + values.length);
+        }
+        for (int u = 0; u < indices.length; u++) {
+            set(indices[u], values[u]);
+        }
+    }
+
+    @Override
+    public int max(int l, int r) {
+        RangeMaxIndex.checkRange(l, r, n);
+        int max = Integer.MIN_VALUE;
+        for (l += n, r += n + 1; l < r; l >>= 1, r >>= 1) {
+            if ((l & 1) == 1) max = Math.max(max, tree[l++]);
+            if ((r & 1) == 1) max = Math.max(max, tree[--r]);
+        }
+        return max;
+    }
+
+    public static void main(String[] args) {
+        SegmentTreeMax tree = new SegmentTreeMax(new int[]{5, 12, 3, 4, 8, 10, 2, 7});
+        System.out.println(tree.max(1, 5)); // 12
+        tree.set(1, 0);
+        System.out.println(tree.max(1, 5)); // 10
+        tree.set(new int[]{6, 7}, new int[]{20, 1});
+        System.out.println(Arrays.toString(tree.max(new int[]{0, 2, 6}, new int[]{7, 4, 7}))); // [20, 8, 20]
+        System.out.println(Arrays.toString(tree.slidingMaximum(3))); // [5, 4, 8, 10, 20, 20]
+    }
+}
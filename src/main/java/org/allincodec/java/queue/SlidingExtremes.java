@@ -0,0 +1,157 @@
+package org.allincodec.java.queue;
+
+import java.util.Arrays;
+
+/**
+ * Streaming sliding-window maximum and minimum over the last {@code window} values of an
+ * unbounded feed.
+ *
+ * <p>The push-based counterpart of {@link ParkingIceCreamTruck#slidingMaximum}: values arrive
+ * one at a time through {@link #accept}, and once the first window is full every value
+ * completes a window whose max and min are handed to the {@link WindowSink} (or read with
+ * {@link #max()} / {@link #min()}). No input array is needed, and nothing is allocated or
+ * boxed per value.</p>
+ *
+ * <p>Approach: the same monotonic deques, one decreasing for the max and one increasing for
+ * the min, kept in {@link LongRingDeque}s of stream positions. The last {@code window}
+ * values sit in a ring indexed by {@code position & mask}, so a deque entry is one
+ * {@code long} and both deques share the values.</p>
+ *
+ * <pre>
+ * window = 3, feed 5 12 3 4 8 10 2 7
+ * position  0  1  2  3  4  5  6  7
+ * max             12 12 8  10 10 10
+ * min             3  3  3  4  2  2
+ * max deque after 8: positions [4]        values [8]
+ * min deque after 8: positions [2, 3, 4]  values [3, 4, 8]
+ * </pre>
+ *
+ * Time Complexity: O(1) amortised per value
+ * Space Complexity: O(window), allocated once
+ */
+public final class SlidingExtremes {
+
+    /**
+     * Receives each completed window: its first position in the stream, its max and its min.
+     */
+    @FunctionalInterface
+    public interface WindowSink {
+        void accept(long start, long max, long min);
+    }
+
+    private final int window;
+    private final long[] values;
+    private final int mask;
+    private final LongRingDeque maxDeque;
+    private final LongRingDeque minDeque;
+    private final WindowSink sink;
+    private long count;
+
+    public SlidingExtremes(int window) {
+        this(window, null);
+    }
+
+    /**
+     * @param sink called after every value that completes a window; may be {@code null}
+     */
+    public SlidingExtremes(int window, WindowSink sink) {
+        if (window < 1) throw new IllegalArgumentException("window must be >= 1: " + window);
+        this.window = window;
+        this.maxDeque = new LongRingDeque(window);
+        this.minDeque = new LongRingDeque(window);
+        this.values = new long[maxDeque.capacity()];
+        this.mask = values.length - 1;
+        this.sink = sink;
+    }
+
+    public int window() {
+        return window;
+    }
+
+    /**
+     * @return the number of values accepted so far
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @return whether the last {@code window} values form a complete window
+     */
+    public boolean isFull() {
+        return count >= window;
+    }
+
+    /**
+     * Pushes the next value of the stream.
+     *
+     * @return whether a complete window is now available
+     */
+    public boolean accept(long value) {
+        long position = count++;
+        values[(int) (position & mask)] = value;
+        long expired = position - window;
+
+        if (!maxDeque.isEmpty() && maxDeque.peekFirst() == expired) maxDeque.removeFirst();
+        while (!maxDeque.isEmpty() && values[(int) (maxDeque.peekLast() & mask)] <= value) {
+            maxDeque.removeLast();
+        }
+        maxDeque.addLast(position);
+
+        if (!minDeque.isEmpty() && minDeque.peekFirst() == expired) minDeque.removeFirst();
+        while (!minDeque.isEmpty() && values[(int) (minDeque.peekLast() & mask)] >= value) {
+            minDeque.removeLast();
+        }
+        minDeque.addLast(position);
+
+        if (position < window - 1) return false;
+        if (sink != null) sink.accept(position - window + 1, max(), min());
+        return true;
+    }
+
+    /**
+     * @return the maximum of the current window, partial while fewer than {@code window}
+     * values have arrived
+     */
+    public long max() {
+        if (count == 0) throw new IllegalStateException("No values accepted yet");
+        return values[(int) (maxDeque.peekFirst() & mask)];
+    }
+
+    /**
+     * @return the minimum of the current window, partial while fewer than {@code window}
+     * values have arrived
+     */
+    public long min() {
+        if (count == 0) throw new IllegalStateException("No values accepted yet");
+        return values[(int) (minDeque.peekFirst() & mask)];
+    }
+
+    /**
+     * Forgets the stream so far; the buffers are reused.
+     */
+    public void reset() {
+        maxDeque.clear();
+        minDeque.clear();
+        count = 0;
+    }
+
+    public static void main(String[] args) {
+        long[] feed = {5, 12, 3, 4, 8, 10, 2, 7};
+        SlidingExtremes extremes = new SlidingExtremes(3,
+                (start, max, min) -> System.out.println("[" + start + ".." + (start + 2) + "] max "
+                        + max + " min " + min));
+        for (long value : feed) {
+            extremes.accept(value);
+        }
+        // [0..2] max 12 min 3 ... [5..7] max 10 min 2
+
+        SlidingExtremes pull = new SlidingExtremes(2);
+        long[] maxima = new long[9];
+        int n = 0;
+        for (long value : new long[]{10, 9, 8, 7, 6, 5, 4, 3, 2, 1}) {
+            if (pull.accept(value)) maxima[n++] = pull.max();
+        }
+        System.out.println(Arrays.toString(maxima)); // [10, 9, 8, 7, 6, 5, 4, 3, 2]
+    }
+}
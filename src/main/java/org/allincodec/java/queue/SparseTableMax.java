@@ -0,0 +1,65 @@
+package org.allincodec.java.queue;
+
+import java.util.Arrays;
+
+/**
+ * Static range-maximum index answering any {@code [l, r]} in O(1).
+ *
+ * <p>Level {@code k} of the table holds the max of every run of {@code 2^k} elements. Any
+ * range is covered by two (overlapping) runs of the largest power of two that fits, and max
+ * does not mind the overlap:</p>
+ * <pre>
+ * A        = [5, 12, 3, 4, 8, 10, 2, 7]
+ * level 0  = [5, 12, 3, 4, 8, 10, 2, 7]
+ * level 1  = [12, 12, 4, 8, 10, 10, 7]
+ * level 2  = [12, 12, 10, 10, 10]
+ * max(1, 5): length 5, k = 2 -&gt; max(level2[1], level2[2]) = max(12, 10) = 12
+ * </pre>
+ *
+ * <p>The data is copied at build time; use {@link SegmentTreeMax} if it changes.</p>
+ *
+ * Time Complexity: O(N log N) build, O(1) per query
+ * Space Complexity: O(N log N)
+ */
+public final class SparseTableMax implements RangeMaxIndex {
+
+    private final int[][] levels;
+
+    public SparseTableMax(int[] values) {
+        int n = values.length;
+        int height = n == 0 ? 1 : 32 - Integer.numberOfLeadingZeros(n);
+        levels = new int[height][];
+        levels[0] = values.clone();
+        for (int k = 1; k < height; k++) {
+            int[] below = levels[k - 1];
+            int half = 1 << (k - 1);
+            int[] level = new int[n - (1 << k) + 1];
+            for (int i = 0; i < level.length; i++) {
+                level[i] = Math.max(below[i], below[i + half]);
+            }
+            levels[k] = level;
+        }
+    }
+
+    @Override
+    public int size() {
+        return levels[0].length;
+    }
+
+    @Override
+    public int max(int l, int r) {
+        RangeMaxIndex.checkRange(l, r, size());
+        int k = 31 - Integer.numberOfLeadingZeros(r - l + 1);
+        int[] level = levels[k];
+        return Math.max(level[l], level[r - (1 << k) + 1]);
+    }
+
+    public static void main(String[] args) {
+        SparseTableMax table = new SparseTableMax(new int[]{5, 12, 3, 4, 8, 10, 2, 7});
+        System.out.println(table.max(1, 5)); // 12
+        System.out.println(table.max(3, 3)); // 4
+        System.out.println(Arrays.toString(table.max(new int[]{0, 2, 6}, new int[]{7, 4, 7}))); // [12, 8, 7]
+        System.out.println(Arrays.toString(table.slidingMaximum(3))); // [12, 12, 8, 10, 10, 10]
+        System.out.println(Arrays.toString(table.slidingMaximum(5))); // [12, 12, 10, 10]
+    }
+}
@@ -0,0 +1,295 @@
+package org.allincodec.java.queue;
+
+/**
+ * Sliding aggregates over several time windows at once (e.g. the last 1s, 10s and 60s of a
+ * feed), keyed by event timestamp.
+ *
+ * <p>Where {@link ParkingIceCreamTruck} answers one count-based window and one aggregate,
+ * this keeps max, min, sum, count and approximate percentiles for every window in one pass
+ * over the events. A window of duration {@code d} covers the events with timestamps in
+ * {@code (now - d, now]}, where {@code now} is the latest timestamp seen or passed to
+ * {@link #advanceTo}.</p>
+ *
+ * <p>Approach: all windows share one growable ring of events, sized by the longest window.
+ * Each window is only a head position into it, moved forward as time advances:</p>
+ * <pre>
+ * events    t=0  t=400  t=900  t=1500  t=2100  t=9000  t=9600      now = 9600
+ * 10s                                                             head -&gt; t=0
+ * 1s                                          head -&gt; t=9000
+ * </pre>
+ * <ul>
+ *   <li>count: {@code end - head}.</li>
+ *   <li>sum: every event stores the running total before it, so a window's sum is
+ *   {@code total - before[head]}.</li>
+ *   <li>max / min: one decreasing and one increasing monotonic deque of positions
+ *   ({@link LongRingDeque}) for the longest window. The deques are sorted by position, so the
+ *   max of a shorter window is the first entry at or after its head, found by binary search.</li>
+ *   <li>percentiles: a log-linear histogram per window, incremented on arrival and
+ *   decremented on eviction. Buckets split every power of two into {@value #SUB_BUCKETS}, so a
+ *   percentile is within about 1.6% of a true sample value (exact below {@value #SUB_BUCKETS}).</li>
+ * </ul>
+ *
+ * <p>Timestamps must not decrease. Sums overflow silently past {@code Long.MAX_VALUE}.</p>
+ *
+ * Time Complexity: O(W) amortised per event for W windows; O(log N) per max/min query,
+ * O(histogram buckets) per percentile query
+ * Space Complexity: O(N) for the N events of the longest window, plus O(W) histograms
+ */
+public final class TimeWindowAggregator {
+
+    private static final int SUB_BITS = 5;
+    static final int SUB_BUCKETS = 1 << SUB_BITS;
+    /** Buckets for magnitudes 0..Long.MAX_VALUE; negative values mirror them below. */
+    private static final int HALF = SUB_BUCKETS + (63 - SUB_BITS) * SUB_BUCKETS;
+
+    private final long[] durations;
+    private final int longest;
+    private final long[] heads;
+    private final int[][] histograms;
+
+    private long[] times;
+    private long[] values;
+    private long[] before;
+    private int[] buckets;
+    private int mask;
+
+    private final LongRingDeque maxDeque;
+    private final LongRingDeque minDeque;
+
+    private long end;
+    private long total;
+    private long now = Long.MIN_VALUE;
+
+    /**
+     * @param durations window lengths, in the unit of the event timestamps; windows are
+     *                  addressed by their index in this list
+     */
+    public TimeWindowAggregator(long... durations) {
+        if (durations.length == 0) throw new IllegalArgumentException("At least one window is required");
+        int longest = 0;
+        for (int w = 0; w < durations.length; w++) {
+            if (durations[w] <= 0) throw new IllegalArgumentException("Window must be > 0: " + durations[w]);
+            if (durations[w] > durations[longest]) longest = w;
+        }
+        this.durations = durations.clone();
+        this.longest = longest;
+        this.heads = new long[durations.length];
+        this.histograms = new int[durations.length][2 * HALF];
+
+        int capacity = 1 << 10;
+        this.times = new long[capacity];
+        this.values = new long[capacity];
+        this.before = new long[capacity];
+        this.buckets = new int[capacity];
+        this.mask = capacity - 1;
+        this.maxDeque = new LongRingDeque(capacity);
+        this.minDeque = new LongRingDeque(capacity);
+    }
+
+    public int windows() {
+        return durations.length;
+    }
+
+    public long duration(int window) {
+        return durations[window];
+    }
+
+    /**
+     * @return the latest timestamp seen, {@code Long.MIN_VALUE} before the first event
+     */
+    public long now() {
+        return now;
+    }
+
+    /**
+     * Records an event at {@code timestamp}, first evicting what falls out of each window.
+     *
+     * @throws IllegalArgumentException if {@code timestamp} is before {@link #now()}
+     */
+    public void accept(long timestamp, long value) {
+        advanceTo(timestamp);
+        if (end - heads[longest] == times.length) grow();
+
+        int slot = (int) (end & mask);
+        int bucket = bucketOf(value);
+        times[slot] = timestamp;
+        values[slot] = value;
+        before[slot] = total;
+        buckets[slot] = bucket;
+        total += value;
+
+        while (!maxDeque.isEmpty() && values[(int) (maxDeque.peekLast() & mask)] <= value) {
+            maxDeque.removeLast();
+        }
+        maxDeque.addLast(end);
+        while (!minDeque.isEmpty() && values[(int) (minDeque.peekLast() & mask)] >= value) {
+            minDeque.removeLast();
+        }
+        minDeque.addLast(end);
+
+        for (int[] histogram : histograms) {
+            histogram[bucket]++;
+        }
+        end++;
+    }
+
+    /**
+     * Moves the clock to {@code timestamp} without an event, evicting expired events from
+     * every window.
+     *
+     * @throws IllegalArgumentException if {@code timestamp} is before {@link #now()}
+     */
+    public void advanceTo(long timestamp) {
+        if (timestamp < now) {
+            throw new IllegalArgumentException("Timestamp " + timestamp + " is before " + now);
+        }
+        now = timestamp;
+        for (int w = 0; w < durations.length; w++) {
+            long head = heads[w];
+            int[] histogram = histograms[w];
+            while (head < end && timestamp - times[(int) (head & mask)] >= durations[w]) {
+                histogram[buckets[(int) (head & mask)]]--;
+                head++;
+            }
+            heads[w] = head;
+        }
+        long oldest = heads[longest];
+        while (!maxDeque.isEmpty() && maxDeque.peekFirst() < oldest) maxDeque.removeFirst();
+        while (!minDeque.isEmpty() && minDeque.peekFirst() < oldest) minDeque.removeFirst();
+    }
+
+    public int count(int window) {
+        return (int) (end - heads[window]);
+    }
+
+    public long sum(int window) {
+        long head = heads[window];
+        return head == end ? 0 : total - before[(int) (head & mask)];
+    }
+
+    public double mean(int window) {
+        int count = count(window);
+        return count == 0 ? Double.NaN : (double) sum(window) / count;
+    }
+
+    /**
+     * @throws IllegalStateException if the window is empty
+     */
+    public long max(int window) {
+        return values[(int) (firstAtOrAfter(maxDeque, window) & mask)];
+    }
+
+    /**
+     * @throws IllegalStateException if the window is empty
+     */
+    public long min(int window) {
+        return values[(int) (firstAtOrAfter(minDeque, window) & mask)];
+    }
+
+    /**
+     * Approximate {@code quantile} of the window's values, e.g. 0.99 for p99: a value from
+     * the bucket holding the sample of rank {@code ceil(quantile * count)}, clamped to the
+     * window's min and max.
+     *
+     * @throws IllegalStateException if the window is empty
+     */
+    public long percentile(int window, double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("quantile must be in [0, 1]: " + quantile);
+        }
+        int count = count(window);
+        if (count == 0) throw new IllegalStateException("Window " + window + " is empty");
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        int[] histogram = histograms[window];
+        long seen = 0;
+        int bucket = 0;
+        while ((seen += histogram[bucket]) < rank) bucket++;
+        return Math.max(min(window), Math.min(max(window), representative(bucket)));
+    }
+
+    private long firstAtOrAfter(LongRingDeque deque, int window) {
+        long head = heads[window];
+        if (head == end) throw new IllegalStateException("Window " + window + " is empty");
+        int lo = 0;
+        int hi = deque.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (deque.get(mid) < head) lo = mid + 1;
+            else hi = mid;
+        }
+        return deque.get(lo);
+    }
+
+    /**
+     * Doubles the event ring, re-placing the retained events by their positions.
+     */
+    private void grow() {
+        if (times.length == 1 << 30) throw new IllegalStateException("Too many events in the longest window");
+        int capacity = times.length * 2;
+        long[] grownTimes = new long[capacity];
+        long[] grownValues = new long[capacity];
+        long[] grownBefore = new long[capacity];
+        int[] grownBuckets = new int[capacity];
+        int grownMask = capacity - 1;
+        for (long p = heads[longest]; p < end; p++) {
+            int from = (int) (p & mask);
+            int to = (int) (p & grownMask);
+            grownTimes[to] = times[from];
+            grownValues[to] = values[from];
+            grownBefore[to] = before[from];
+            grownBuckets[to] = buckets[from];
+        }
+        times = grownTimes;
+        values = grownValues;
+        before = grownBefore;
+        buckets = grownBuckets;
+        mask = grownMask;
+        maxDeque.ensureCapacity(capacity);
+        minDeque.ensureCapacity(capacity);
+    }
+
+    static int bucketOf(long value) {
+        return value >= 0 ? HALF + magnitudeBucket(value) : HALF - 1 - magnitudeBucket(~value);
+    }
+
+    static long representative(int bucket) {
+        return bucket >= HALF ? magnitudeMid(bucket - HALF) : ~magnitudeMid(HALF - 1 - bucket);
+    }
+
+    /**
+     * Values below {@value #SUB_BUCKETS} get a bucket each; above, the power of two picks a
+     * range and the next {@code SUB_BITS} bits a bucket within it.
+     */
+    private static int magnitudeBucket(long magnitude) {
+        if (magnitude < SUB_BUCKETS) return (int) magnitude;
+        int exponent = 63 - Long.numberOfLeadingZeros(magnitude);
+        int sub = (int) (magnitude >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+        return SUB_BUCKETS + (exponent - SUB_BITS) * SUB_BUCKETS + sub;
+    }
+
+    private static long magnitudeMid(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        long low = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+        return low + ((1L << shift) - 1) / 2;
+    }
+
+    public static void main(String[] args) {
+        TimeWindowAggregator latency = new TimeWindowAggregator(1_000, 10_000, 60_000);
+        for (long t = 0; t < 60_000; t += 10) {
+            long value = t >= 59_000 ? 500 : 10 + (t / 10) % 90; // a slow last second
+            latency.accept(t, value);
+        }
+        for (int w = 0; w < latency.windows(); w++) {
+            System.out.println(latency.duration(w) + "ms: count " + latency.count(w)
+                    + " min " + latency.min(w) + " max " + latency.max(w)
+                    + " mean " + Math.round(latency.mean(w)) + " p50 ~" + latency.percentile(w, 0.5));
+        }
+        // 1000ms: count 100 min 500 max 500 mean 500 p50 ~500
+        // 10000ms: count 1000 min 10 max 500 mean 99 p50 ~59
+        // 60000ms: count 6000 min 10 max 500 mean 62 p50 ~55
+
+        latency.advanceTo(60_500);
+        System.out.println("after 0.5s idle, 1s window holds " + latency.count(0)); // 49
+    }
+}
@@ -1,22 +1,33 @@
 package org.allincodec.java.queue;
 
-import java.util.ArrayDeque;
-import java.util.Deque;
-
+/**
+ * First non-repeating character in a stream: for every prefix of A, the first character that
+ * has occurred exactly once so far, or '#' if there is none.
+ *
+ * <pre>
+ * Input:  "abcabc"
+ * Output: "aaabc#"
+ * </pre>
+ *
+ * <p>Approach: a queue of candidates in arrival order; a character seen twice is dropped from
+ * it. {@link FirstUniqueStream} keeps the queue as a primitive doubly linked list, so the drop
+ * is O(1) from anywhere in the list, and works on any Unicode code point, not just 'a'..'z'.
+ * Surrogate pairs count as one character and produce one output character.</p>
+ *
+ * Time Complexity: O(N)
+ * Space Complexity: O(distinct characters)
+ */
 public class UniqueLetter {
 
     public String solve(String A) {
-        int[] freq = new int[26];
-        Deque<Character> q = new ArrayDeque<>();
-        StringBuilder sb = new StringBuilder();
+        FirstUniqueStream stream = new FirstUniqueStream();
+        StringBuilder sb = new StringBuilder(A.length());
 
-        for (char c : A.toCharArray()) {
-            freq[c - 'a']++;
-            q.offer(c);
-            while (!q.isEmpty() && freq[q.peek() - 'a'] > 1) {
-                q.poll();
-            }
-            sb.append(q.isEmpty() ? '#' : q.peek());
+        for (int i = 0; i < A.length(); ) {
+            int c = A.codePointAt(i);
+            i += Character.charCount(c);
+            int first = stream.accept(c);
+            sb.appendCodePoint(first == FirstUniqueStream.NONE ? '#' : first);
         }
         return sb.toString();
     }
@@ -27,5 +38,6 @@ public class UniqueLetter {
         System.out.println(uq.solve("iergxwhddh"));
         System.out.println(uq.solve("jyhrcwuengcbnuchctluxjgtxqtfvrebveewgasluuwooupcyxwgl"));
         System.out.println(uq.solve("xxikrwmjvsvckfrqxnibkcasompsuyuogauacjrr"));
+        System.out.println(uq.solve("Hello, Wörld! 👋👋"));
     }
 }
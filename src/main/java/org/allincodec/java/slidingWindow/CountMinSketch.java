@@ -0,0 +1,72 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe count-min sketch: approximate frequencies of {@code long} keys in fixed memory.
+ *
+ * <p>{@code depth} rows of {@code width} counters. Adding a key increments one counter per
+ * row, chosen by a per-row hash; the estimate is the minimum of those counters. Collisions
+ * only ever add, so an estimate never undercounts, and with {@code N} total additions it
+ * overcounts by more than {@code e N / width} with probability at most {@code e^-depth}.</p>
+ *
+ * <pre>
+ * width = 2^20, depth = 4: 32 MB, error &lt;= 2.6e-6 N with probability 98%
+ * </pre>
+ *
+ * Time Complexity: O(depth) per add/estimate
+ * Space Complexity: 8 * width * depth bytes, fixed
+ */
+public final class CountMinSketch {
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+    private final int mask;
+
+    /**
+     * @param width counters per row, rounded up to a power of two
+     * @param depth number of rows
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width and depth must be >= 1: " + width + " x " + depth);
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        if ((long) this.width * depth > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Sketch too large: " + width + " x " + depth);
+        }
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(this.width * depth);
+    }
+
+    public int width() {
+        return width;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public void add(long key) {
+        long h = LongHashSet.mix64(key);
+        long h2 = (h >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counters.getAndIncrement(row * width + (int) ((h + row * h2) & mask));
+        }
+    }
+
+    /**
+     * @return an upper bound on the number of times {@code key} was added
+     */
+    public long estimate(long key) {
+        long h = LongHashSet.mix64(key);
+        long h2 = (h >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(row * width + (int) ((h + row * h2) & mask)));
+        }
+        return min;
+    }
+}
@@ -0,0 +1,85 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.Arrays;
+
+/**
+ * 2-bit packing of DNA k-mers into a {@code long}.
+ *
+ * <pre>
+ * A = 00, C = 01, G = 10, T = 11          "GATC" -&gt; 10 00 11 01 = 0x8D
+ *
+ * rolling: next = ((kmer &lt;&lt; 2) | code(c)) &amp; mask(k)
+ * </pre>
+ *
+ * <p>With 2 bits per base a {@code long} holds up to 31 bases with the sign bit unused, and
+ * sliding the window by one base is a shift, an or and a mask instead of a new substring.
+ * The codes keep the alphabetical order of the bases, so comparing two packed k-mers of the
+ * same length compares the strings.</p>
+ */
+public final class KmerCodec {
+
+    public static final int MAX_K = 31;
+
+    private static final byte[] CODES = new byte[128];
+    private static final char[] BASES = {'A', 'C', 'G', 'T'};
+
+    static {
+        Arrays.fill(CODES, (byte) -1);
+        CODES['A'] = 0;
+        CODES['C'] = 1;
+        CODES['G'] = 2;
+        CODES['T'] = 3;
+        CODES['a'] = 0;
+        CODES['c'] = 1;
+        CODES['g'] = 2;
+        CODES['t'] = 3;
+    }
+
+    private KmerCodec() {
+    }
+
+    /**
+     * @return the 2-bit code of {@code base} (either case), or -1 for anything else, e.g. 'N'
+     */
+    public static int code(int base) {
+        return base < 128 ? CODES[base] : -1;
+    }
+
+    /**
+     * @return the mask keeping the low {@code 2k} bits
+     * @throws IllegalArgumentException unless {@code 1 <= k <= 31}
+     */
+    public static long mask(int k) {
+        checkK(k);
+        return (1L << (2 * k)) - 1;
+    }
+
+    public static void checkK(int k) {
+        if (k < 1 || k > MAX_K) {
+            throw new IllegalArgumentException("k must be between 1 and " + MAX_K + ": " + k);
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if {@code kmer} contains a non-ACGT character
+     */
+    public static long encode(CharSequence kmer) {
+        checkK(kmer.length());
+        long packed = 0;
+        for (int i = 0; i < kmer.length(); i++) {
+            int code = code(kmer.charAt(i));
+            if (code < 0) throw new IllegalArgumentException("Not a DNA base: " + kmer.charAt(i));
+            packed = (packed << 2) | code;
+        }
+        return packed;
+    }
+
+    public static String decode(long kmer, int k) {
+        char[] bases = new char[k];
+        for (int i = k - 1; i >= 0; i--) {
+            bases[i] = BASES[(int) (kmer & 3)];
+            kmer >>>= 2;
+        }
+        return new String(bases);
+    }
+}
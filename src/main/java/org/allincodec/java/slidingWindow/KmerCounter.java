@@ -0,0 +1,234 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.LongConsumer;
+
+/**
+ * Parallel k-mer counting over a DNA sequence, exact or in bounded memory.
+ *
+ * <p>The window start positions {@code 0..n-k} are split into chunks of {@value #GRAIN}.
+ * A chunk reads {@code k - 1} characters past its end, so every window is counted by exactly
+ * one chunk and none is lost at a boundary ({@link SequenceFile} inputs are chunked the same
+ * way, by bytes):</p>
+ * <pre>
+ * sequence  ACGTACGTAC|GTACGTACGT|ACGT...
+ * chunk 0   [ACGTACGTACGTA]              windows starting 0..9  (k = 4, reads 3 more)
+ * chunk 1             [GTACGTACGTACG]    windows starting 10..19
+ * </pre>
+ *
+ * <p>Each chunk rolls a 2-bit packed window ({@link KmerCodec}) through its slice on a
+ * {@link ForkJoinPool}. The three modes differ in where a k-mer goes:</p>
+ * <ul>
+ *   <li>{@link #count}: exact. Every chunk counts into its own {@link LongCountMap}; maps are
+ *   merged pairwise, the smaller into the larger, as the fork-join tree unwinds. Memory grows
+ *   with the number of distinct k-mers.</li>
+ *   <li>{@link #countRepeated}: two passes. In the first, a shared {@link LongBloomFilter}
+ *   absorbs the first occurrence of every k-mer, and only k-mers the filter has possibly seen
+ *   before become candidates. The second pass counts exactly, but only the candidates, and
+ *   drops those that turn out to occur once (Bloom false positives). On sequencing data most
+ *   distinct k-mers are singletons (read errors), so this is where the memory goes. The result
+ *   is exact: every k-mer occurring at least twice, with its true count, and nothing else.
+ *   The filter puts are atomic, so of two chunks meeting a new k-mer at once exactly one sees
+ *   it as new.</li>
+ *   <li>{@link #sketch}: every k-mer goes into one shared {@link CountMinSketch}. Memory is
+ *   fixed up front, and estimates never undercount.</li>
+ * </ul>
+ *
+ * <p>Characters other than ACGT break the window, as in {@link RepeatedSequences}.</p>
+ *
+ * Time Complexity: O(n / p) per core plus merging, O(n) total
+ * Space Complexity: O(distinct k-mers) exact, O(candidate k-mers + filter) prefiltered,
+ * O(sketch) sketched
+ */
+public final class KmerCounter {
+
+    static final int GRAIN = 1 << 20;
+
+    private final int k;
+    private final ForkJoinPool pool;
+
+    public KmerCounter(int k) {
+        this(k, ForkJoinPool.commonPool());
+    }
+
+    public KmerCounter(int k, ForkJoinPool pool) {
+        KmerCodec.checkK(k);
+        this.k = k;
+        this.pool = pool;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * Exact frequency of every k-mer.
+     */
+    public KmerCounts count(CharSequence sequence) {
+        return count(KmerSource.of(sequence, GRAIN));
+    }
+
+    /**
+     * Exact frequency of every k-mer in a mapped FASTA or plain sequence file.
+     */
+    public KmerCounts count(SequenceFile file) {
+        return count(file.kmerSource());
+    }
+
+    /**
+     * Exact frequencies of the k-mers occurring at least twice, with singletons filtered out
+     * by a Bloom filter of {@code filterBits} bits before they take table space. Reads the
+     * input twice. About 8 bits per expected distinct k-mer keeps false positives, which only
+     * cost candidate table space, near 4%.
+     */
+    public KmerCounts countRepeated(CharSequence sequence, long filterBits) {
+        return countRepeated(KmerSource.of(sequence, GRAIN), filterBits);
+    }
+
+    public KmerCounts countRepeated(SequenceFile file, long filterBits) {
+        return countRepeated(file.kmerSource(), filterBits);
+    }
+
+    /**
+     * Approximate frequencies of all k-mers in a fixed-size sketch.
+     */
+    public CountMinSketch sketch(CharSequence sequence, int width, int depth) {
+        return sketch(KmerSource.of(sequence, GRAIN), width, depth);
+    }
+
+    public CountMinSketch sketch(SequenceFile file, int width, int depth) {
+        return sketch(file.kmerSource(), width, depth);
+    }
+
+    private KmerCounts count(KmerSource source) {
+        Chunk result = pool.invoke(new CountTask(source, 0, source.chunks(), Route.ALL));
+        return new KmerCounts(k, result.counts, result.windows);
+    }
+
+    private KmerCounts countRepeated(KmerSource source, long filterBits) {
+        // Pass 1: every k-mer the filter has possibly seen before. Counts here are meaningless:
+        // a Bloom false positive lets a singleton in, and the first occurrence of a true repeat
+        // is missing.
+        LongBloomFilter filter = new LongBloomFilter(filterBits, 4);
+        Chunk candidates = pool.invoke(new CountTask(source, 0, source.chunks(), new Route(filter, null, null)));
+
+        // Pass 2: exact counts of the candidates only; drop the false positives.
+        Chunk exact = pool.invoke(new CountTask(source, 0, source.chunks(), new Route(null, candidates.counts, null)));
+        LongCountMap repeated = new LongCountMap(exact.counts.size());
+        exact.counts.forEach((kmer, count) -> {
+            if (count >= 2) repeated.add(kmer, count);
+        });
+        return new KmerCounts(k, repeated, candidates.windows);
+    }
+
+    private CountMinSketch sketch(KmerSource source, int width, int depth) {
+        CountMinSketch sketch = new CountMinSketch(width, depth);
+        pool.invoke(new CountTask(source, 0, source.chunks(), new Route(null, null, sketch)));
+        return sketch;
+    }
+
+    private record Chunk(LongCountMap counts, long windows) {
+    }
+
+    /**
+     * Where a leaf sends each k-mer: into the sketch if set, else into its table if the filter
+     * reports it possibly seen or it is one of the candidates; with neither, always.
+     */
+    private record Route(LongBloomFilter filter, LongCountMap candidates, CountMinSketch sketch) {
+        static final Route ALL = new Route(null, null, null);
+    }
+
+    /**
+     * Receives the k-mers of one leaf task. A single sink class keeps the scan loop's call
+     * site monomorphic whatever the mode.
+     */
+    private static final class ChunkSink implements LongConsumer {
+        final LongCountMap counts;
+        final LongBloomFilter filter;
+        final LongCountMap candidates;
+        final CountMinSketch sketch;
+        long windows;
+
+        ChunkSink(LongCountMap counts, Route route) {
+            this.counts = counts;
+            this.filter = route.filter();
+            this.candidates = route.candidates();
+            this.sketch = route.sketch();
+        }
+
+        @Override
+        public void accept(long kmer) {
+            windows++;
+            if (sketch != null) {
+                sketch.add(kmer);
+            } else if (candidates != null) {
+                if (candidates.containsKey(kmer)) counts.increment(kmer);
+            } else if (filter == null || filter.put(kmer)) {
+                counts.increment(kmer);
+            }
+        }
+    }
+
+    private final class CountTask extends RecursiveTask<Chunk> {
+        private final KmerSource source;
+        private final int from;
+        private final int to;
+        private final Route route;
+
+        /**
+         * Counts the windows of source chunks {@code [from, to)}.
+         */
+        CountTask(KmerSource source, int from, int to, Route route) {
+            this.source = source;
+            this.from = from;
+            this.to = to;
+            this.route = route;
+        }
+
+        @Override
+        protected Chunk compute() {
+            if (to - from > 1) {
+                int mid = (from + to) >>> 1;
+                CountTask left = new CountTask(source, from, mid, route);
+                left.fork();
+                Chunk right = new CountTask(source, mid, to, route).compute();
+                return merge(left.join(), right);
+            }
+
+            ChunkSink sink = new ChunkSink(new LongCountMap(route.sketch() != null ? 1 : 1 << 16), route);
+            for (int c = from; c < to; c++) {
+                source.scan(c, k, sink);
+            }
+            return new Chunk(sink.counts, sink.windows);
+        }
+
+        private Chunk merge(Chunk a, Chunk b) {
+            if (a.counts.size() < b.counts.size()) {
+                Chunk t = a;
+                a = b;
+                b = t;
+            }
+            a.counts.addAll(b.counts);
+            return new Chunk(a.counts, a.windows + b.windows);
+        }
+    }
+
+    public static void main(String[] args) {
+        String dna = "ATATTGGCCAATTGGCCAATTCGC".repeat(3) + "NNACGT";
+        KmerCounter counter = new KmerCounter(10);
+
+        KmerCounts exact = counter.count(dna);
+        System.out.println("Windows: " + exact.windows() + ", distinct 10-mers: " + exact.distinct());
+        for (long kmer : exact.atLeast(3)) {
+            System.out.println(exact.decode(kmer) + " x" + exact.count(kmer));
+        }
+
+        KmerCounts repeated = counter.countRepeated(dna, 1 << 16);
+        System.out.println("Repeated 10-mers: " + repeated.distinct()
+                + ", ATTGGCCAAT x" + repeated.count("ATTGGCCAAT")); // 6
+
+        CountMinSketch sketch = counter.sketch(dna, 1 << 10, 4);
+        System.out.println("Sketch ATTGGCCAAT >= " + sketch.estimate(KmerCodec.encode("ATTGGCCAAT")));
+    }
+}
@@ -0,0 +1,77 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.Arrays;
+
+/**
+ * k-mer frequency table produced by {@link KmerCounter}: packed k-mer to occurrence count.
+ */
+public final class KmerCounts {
+
+    private final int k;
+    private final LongCountMap counts;
+    private final long windows;
+
+    KmerCounts(int k, LongCountMap counts, long windows) {
+        this.k = k;
+        this.counts = counts;
+        this.windows = windows;
+    }
+
+    public int k() {
+        return k;
+    }
+
+    /**
+     * @return the number of distinct k-mers in the table
+     */
+    public int distinct() {
+        return counts.size();
+    }
+
+    /**
+     * @return the number of valid k-length windows scanned, i.e. the sum of all true counts
+     */
+    public long windows() {
+        return windows;
+    }
+
+    public long count(long kmer) {
+        return counts.get(kmer);
+    }
+
+    public long count(CharSequence kmer) {
+        if (kmer.length() != k) return 0;
+        return counts.get(KmerCodec.encode(kmer));
+    }
+
+    public void forEach(LongCountMap.EntryConsumer action) {
+        counts.forEach(action);
+    }
+
+    /**
+     * @return the packed k-mers occurring at least {@code minCount} times, most frequent first
+     */
+    public long[] atLeast(long minCount) {
+        long[][] found = {new long[16]};
+        int[] size = {0};
+        counts.forEach((kmer, count) -> {
+            if (count < minCount) return;
+            if (size[0] == found[0].length) found[0] = Arrays.copyOf(found[0], size[0] * 2);
+            found[0][size[0]++] = kmer;
+        });
+        long[] result = Arrays.copyOf(found[0], size[0]);
+        // Sort by (count desc, kmer asc); the selection is usually small, so boxing is fine here.
+        Long[] order = new Long[result.length];
+        for (int i = 0; i < result.length; i++) order[i] = result[i];
+        Arrays.sort(order, (a, b) -> {
+            int byCount = Long.compare(counts.get(b), counts.get(a));
+            return byCount != 0 ? byCount : Long.compare(a, b);
+        });
+        for (int i = 0; i < result.length; i++) result[i] = order[i];
+        return result;
+    }
+
+    public String decode(long kmer) {
+        return KmerCodec.decode(kmer, k);
+    }
+}
@@ -0,0 +1,51 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Input of the k-mer engine, pre-split into chunks that can be scanned independently.
+ *
+ * <p>A chunk owns the windows whose first base lies inside it, and {@link #scan} reads past
+ * the chunk end as far as needed to complete them. Scanning all chunks, in any order and on
+ * any threads, therefore reports every valid window exactly once.</p>
+ */
+interface KmerSource {
+
+    int chunks();
+
+    /**
+     * Reports the packed k-mer of every valid window that starts in {@code chunk}.
+     */
+    void scan(int chunk, int k, LongConsumer sink);
+
+    /**
+     * A {@link CharSequence} split into chunks of {@code grain} window starts.
+     */
+    static KmerSource of(CharSequence sequence, int grain) {
+        return new KmerSource() {
+            @Override
+            public int chunks() {
+                return (int) ((sequence.length() + (long) grain - 1) / grain);
+            }
+
+            @Override
+            public void scan(int chunk, int k, LongConsumer sink) {
+                int from = chunk * grain;
+                int to = Math.min(from + grain, sequence.length() - k + 1);
+                if (from >= to) return;
+                long mask = KmerCodec.mask(k);
+                long kmer = 0;
+                int valid = 0;
+                for (int i = from, end = to + k - 1; i < end; i++) {
+                    int code = KmerCodec.code(sequence.charAt(i));
+                    if (code < 0) {
+                        valid = 0;
+                        continue;
+                    }
+                    kmer = ((kmer << 2) | code) & mask;
+                    if (++valid >= k) sink.accept(kmer);
+                }
+            }
+        };
+    }
+}
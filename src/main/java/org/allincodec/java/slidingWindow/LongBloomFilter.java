@@ -0,0 +1,72 @@
+package org.allincodec.java.slidingWindow;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe blocked Bloom filter over {@code long} keys, backed by an {@link AtomicLongArray}.
+ *
+ * <p>All {@code hashes} bits of a key fall in one 64-bit word: the high half of a 64-bit mix
+ * of the key picks the word, and double hashing {@code (h1 + i * h2) mod 64} of the low bits
+ * picks the bits inside it. {@link #put} therefore sets them with a single CAS and reports
+ * whether they were all set already, so one call answers "seen before?", records the key, and
+ * is atomic: of several threads putting the same new key at once, exactly one is told it is
+ * new. Keeping a key in one word also costs at most one cache miss per call.</p>
+ *
+ * <p>False positive rate after {@code n} keys: slightly above the classic
+ * {@code (1 - e^(-h n / m))^h} for {@code m} bits because words fill unevenly, about 4% for
+ * 8 bits per key and 4 hashes.</p>
+ *
+ * Space Complexity: bits / 8 bytes, fixed
+ */
+public final class LongBloomFilter {
+
+    private final AtomicLongArray words;
+    private final int wordMask;
+    private final int hashes;
+
+    /**
+     * @param bits   filter size, rounded up to a power of two (at least 64)
+     * @param hashes bits set per key, at most 64
+     */
+    public LongBloomFilter(long bits, int hashes) {
+        if (hashes < 1 || hashes > 64) throw new IllegalArgumentException("hashes must be in [1, 64]: " + hashes);
+        long size = Math.max(64, Long.highestOneBit(Math.max(bits, 1) - 1) << 1);
+        if (size / 64 > 1 << 30) throw new IllegalArgumentException("Too many bits: " + bits);
+        this.words = new AtomicLongArray((int) (size / 64));
+        this.wordMask = words.length() - 1;
+        this.hashes = hashes;
+    }
+
+    /**
+     * Records {@code key}.
+     *
+     * @return true if the key was possibly added before, false if it certainly was not
+     */
+    public boolean put(long key) {
+        long h = LongHashSet.mix64(key);
+        int word = (int) (h >>> 32) & wordMask;
+        long mask = bits(h);
+        long current = words.get(word);
+        while ((current & mask) != mask) {
+            if (words.compareAndSet(word, current, current | mask)) return false;
+            current = words.get(word);
+        }
+        return true;
+    }
+
+    public boolean mightContain(long key) {
+        long h = LongHashSet.mix64(key);
+        long mask = bits(h);
+        return (words.get((int) (h >>> 32) & wordMask) & mask) == mask;
+    }
+
+    private long bits(long h) {
+        int h1 = (int) h;
+        int h2 = (int) (h >>> 6) | 1; // odd, so the first 64 probes are distinct
+        long mask = 0;
+        for (int i = 0; i < hashes; i++) {
+            mask |= 1L << (h1 + i * h2);
+        }
+        return mask;
+    }
+}
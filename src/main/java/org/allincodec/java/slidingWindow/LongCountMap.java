@@ -0,0 +1,124 @@
+package org.allincodec.java.slidingWindow;
+
+/**
+ * Open-addressing hash map from {@code long} keys to {@code long} counts, the counting
+ * counterpart of {@link LongHashSet}: two parallel primitive arrays, linear probing, slot key 0
+ * meaning empty and the key 0 itself kept in a separate field.
+ *
+ * Time Complexity: O(1) expected add/get
+ * Space Complexity: 32 to 64 bytes per key
+ */
+public final class LongCountMap {
+
+    /**
+     * Receives one {@code (key, count)} entry.
+     */
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, long count);
+    }
+
+    private long[] keys;
+    private long[] counts;
+    private int size;
+    private long zeroCount;
+
+    public LongCountMap() {
+        this(16);
+    }
+
+    public LongCountMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2 * expectedSize, 8) - 1) << 1;
+        keys = new long[capacity];
+        counts = new long[capacity];
+    }
+
+    /**
+     * @return the number of distinct keys
+     */
+    public int size() {
+        return size;
+    }
+
+    public void increment(long key) {
+        add(key, 1);
+    }
+
+    public void add(long key, long delta) {
+        if (key == 0) {
+            if (zeroCount == 0) size++;
+            zeroCount += delta;
+            return;
+        }
+        int mask = keys.length - 1;
+        int i = LongHashSet.mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                counts[i] += delta;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        counts[i] = delta;
+        if (2 * ++size > keys.length) grow();
+    }
+
+    /**
+     * @return the count of {@code key}, 0 if absent
+     */
+    public long get(long key) {
+        if (key == 0) return zeroCount;
+        int mask = keys.length - 1;
+        int i = LongHashSet.mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) return counts[i];
+            i = (i + 1) & mask;
+        }
+        return 0;
+    }
+
+    /**
+     * @return whether {@code key} has been added; safe to call from many threads while no
+     * thread adds
+     */
+    public boolean containsKey(long key) {
+        if (key == 0) return zeroCount != 0;
+        int mask = keys.length - 1;
+        int i = LongHashSet.mix(key) & mask;
+        while (keys[i] != 0) {
+            if (keys[i] == key) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Adds every count of {@code other} into this map.
+     */
+    public void addAll(LongCountMap other) {
+        other.forEach(this::add);
+    }
+
+    public void forEach(EntryConsumer action) {
+        if (zeroCount != 0) action.accept(0, zeroCount);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) action.accept(keys[i], counts[i]);
+        }
+    }
+
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldCounts = counts;
+        keys = new long[oldKeys.length * 2];
+        counts = new long[oldKeys.length * 2];
+        int mask = keys.length - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            if (oldKeys[j] == 0) continue;
+            int i = LongHashSet.mix(oldKeys[j]) & mask;
+            while (keys[i] != 0) i = (i + 1) & mask;
+            keys[i] = oldKeys[j];
+            counts[i] = oldCounts[j];
+        }
+    }
+}
@@ -10,8 +10,10 @@ import java.util.*;
  * in any order.
  * <p>
  * Constraints:
- *  ==>  1 <= s.length <= 10^3
- *  ==>  s[i] is either 'A','C', 'G', or 'T'.
+ *  ==>  1 <= s.length, up to hundreds of millions of bases
+ *  ==>  s[i] is 'A','C', 'G' or 'T' (either case); any other character, e.g. 'N',
+ *       breaks the window and no k-mer spans it
+ *  ==>  1 <= k <= 31 (10 for the classic problem)
  * <p>
  * Example:
  * For the DNA string: "ATATTGGCCAATTGGCCAATTCGC"
@@ -34,34 +36,96 @@ import java.util.*;
  * Output: ["ATTGGCCAAT", "TTGGCCAATT"]
  * <p>
  * Implementation Approach:
- * - Use a HashSet to track sequences we've seen
- * - Use another HashSet to track repeated sequences
- * - Iterate through all possible 10-letter windows
- * - Return the list of repeated sequences
+ * - Encode each window as a 2-bit packed long (see {@link KmerCodec}); sliding by one base is
+ *   {@code ((kmer << 2) | code) & mask}, O(1) and allocation-free, instead of a substring
+ * - Track seen k-mers in a primitive {@link LongHashSet}, and repeated ones in another
+ * - Decode only the repeated k-mers back to Strings, in order of their first repeat
  *<p>
- * Time Complexity: O(n), where n is the length of the string
- * Space Complexity: O(n), for storing the sequences in the HashSets
+ * - For full frequencies, parallel counting or bounded memory, see {@link KmerCounter}
+ * - For FASTA or plain sequence files, open a {@link SequenceFile}: it is scanned from a
+ *   memory mapping, one byte per base, with headers and line breaks skipped
+ *<p>
+ * Time Complexity: O(n), independent of k
+ * Space Complexity: O(distinct k-mers) longs, no per-window objects
  *
  */
 public class RepeatedSequences {
 
     public static List<String> repeatedSequences(String s) {
-        if (s.length() < 10) return List.of();
+        return repeatedSequences(s, 10);
+    }
+
+    public static List<String> repeatedSequences(CharSequence s, int k) {
+        return decode(repeatedKmers(s, k), k);
+    }
+
+    /**
+     * Repeated k-mers of a mapped FASTA or plain sequence file, across all of its records.
+     */
+    public static List<String> repeatedSequences(SequenceFile file, int k) {
+        return decode(repeatedKmers(file, k), k);
+    }
 
-        var seen = new HashSet<String>();
-        var repeated = new HashSet<String>();
+    private static List<String> decode(long[] kmers, int k) {
+        List<String> result = new ArrayList<>(kmers.length);
+        for (long kmer : kmers) {
+            result.add(KmerCodec.decode(kmer, k));
+        }
+        return result;
+    }
 
-        for (int i = 0; i <= s.length() - 10; i++) {
-            var sequence = s.substring(i, i + 10);
-            if (!seen.add(sequence)) repeated.add(sequence);
+    /**
+     * Same as {@link #repeatedSequences(CharSequence, int)} but returns the packed k-mers,
+     * for callers that keep working on the encoded form.
+     */
+    public static long[] repeatedKmers(CharSequence s, int k) {
+        long mask = KmerCodec.mask(k);
+        // Pre-size for the distinct k-mers that can occur, within reason; the set grows past that.
+        var seen = new LongHashSet((int) Math.min(s.length(), Math.min(1L << (2 * k), 1 << 20)));
+        var repeated = new LongHashSet();
+        long[] order = new long[16];
+        int count = 0;
+
+        long kmer = 0;
+        int valid = 0; // bases since the last non-ACGT character
+        for (int i = 0; i < s.length(); i++) {
+            int code = KmerCodec.code(s.charAt(i));
+            if (code < 0) {
+                valid = 0;
+                continue;
+            }
+            kmer = ((kmer << 2) | code) & mask;
+            if (++valid >= k && !seen.add(kmer) && repeated.add(kmer)) {
+                if (count == order.length) order = Arrays.copyOf(order, count * 2);
+                order[count++] = kmer;
+            }
         }
+        return Arrays.copyOf(order, count);
+    }
 
-        return repeated.stream().toList();
+    /**
+     * Same as {@link #repeatedSequences(SequenceFile, int)} but returns the packed k-mers.
+     * The file is read straight from the mapping; no String of it is ever built.
+     */
+    public static long[] repeatedKmers(SequenceFile file, int k) {
+        KmerCodec.checkK(k);
+        var seen = new LongHashSet((int) Math.min(file.length(), Math.min(1L << (2 * k), 1 << 20)));
+        var repeated = new LongHashSet();
+        long[][] order = {new long[16]};
+        int[] count = {0};
+        file.forEachKmer(k, kmer -> {
+            if (!seen.add(kmer) && repeated.add(kmer)) {
+                if (count[0] == order[0].length) order[0] = Arrays.copyOf(order[0], count[0] * 2);
+                order[0][count[0]++] = kmer;
+            }
+        });
+        return Arrays.copyOf(order[0], count[0]);
     }
 
     public static void main(String[] args) {
         System.out.println(repeatedSequences("ATATTGGCCAATTGGCCAATTCGC"));
         System.out.println(repeatedSequences("ATATTGGCCAATATTGGCCA"));
+        System.out.println(repeatedSequences("ACGTNACGTACGT", 4)); // [ACGT], no window spans the N
     }
 
 }
@@ -0,0 +1,195 @@
+package org.allincodec.java.slidingWindow;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A DNA sequence file (FASTA or plain text) mapped into memory and read as ASCII bytes.
+ *
+ * <p>Bases are read straight out of the page cache, one byte each. Nothing is decoded into a
+ * {@code String} or copied onto the heap, so a file larger than the heap can be scanned, and
+ * the in-memory footprint is half that of the UTF-16 {@code char[]} a {@code String} would
+ * need. Files are mapped in segments of 2^30 bytes.</p>
+ *
+ * <pre>
+ * &gt;chr1 description         header line: skipped, ends the current record
+ * ACGTACGTNNACGT             sequence lines: newlines (and \r) are skipped, so a k-mer
+ * ACGTTT                     may span a line break; N and other characters break it
+ * &gt;chr2
+ * ...
+ * </pre>
+ *
+ * <p>A file without a header line is one record. Lines starting with {@code ;} are treated as
+ * comments, as in old FASTA files.</p>
+ *
+ * <p>Pass the file to {@link KmerCounter} for parallel counting or to
+ * {@link RepeatedSequences#repeatedKmers(SequenceFile, int)}. For parallel scans the file is
+ * cut into chunks of about {@value #CHUNK_BYTES} bytes at line starts; a line with no break in
+ * the next {@value #LINE_SEARCH} bytes is cut mid-line, which assumes no header line is that
+ * long.</p>
+ *
+ * Time Complexity: O(1) to open, O(file) per scan
+ * Space Complexity: O(chunks) heap; the file itself stays in the page cache
+ */
+public final class SequenceFile {
+
+    static final int CHUNK_BYTES = 1 << 22;
+    static final int LINE_SEARCH = 1 << 20;
+
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final Path path;
+    private final long length;
+    private final MappedByteBuffer[] segments;
+
+    private SequenceFile(Path path, long length, MappedByteBuffer[] segments) {
+        this.path = path;
+        this.length = length;
+        this.segments = segments;
+    }
+
+    /**
+     * Maps {@code file} read-only. The channel is closed before returning; the mapping stays
+     * valid until this object is garbage collected.
+     */
+    public static SequenceFile open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+            int count = (int) ((length + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] segments = new MappedByteBuffer[count];
+            for (int s = 0; s < count; s++) {
+                long start = (long) s << SEGMENT_SHIFT;
+                segments[s] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                        Math.min(length - start, 1L << SEGMENT_SHIFT));
+            }
+            return new SequenceFile(file, length, segments);
+        }
+    }
+
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return the file size in bytes, headers and line breaks included
+     */
+    public long length() {
+        return length;
+    }
+
+    /**
+     * Sequentially reports every valid k-mer of the file, in file order.
+     */
+    public void forEachKmer(int k, LongConsumer action) {
+        KmerCodec.checkK(k);
+        KmerSource source = kmerSource();
+        for (int c = 0; c < source.chunks(); c++) {
+            source.scan(c, k, action);
+        }
+    }
+
+    private byte byteAt(long position) {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+    }
+
+    /**
+     * Splits the file into chunks starting at line starts, see the class comment.
+     */
+    KmerSource kmerSource() {
+        long[] bounds = new long[(int) (length / CHUNK_BYTES) + 2];
+        int count = 0;
+        bounds[count++] = 0;
+        for (long nominal = CHUNK_BYTES; nominal < length; nominal += CHUNK_BYTES) {
+            long cut = nominal;
+            for (long p = nominal, limit = Math.min(length, nominal + LINE_SEARCH); p < limit; p++) {
+                if (byteAt(p - 1) == '\n') {
+                    cut = p;
+                    break;
+                }
+            }
+            if (cut > bounds[count - 1]) bounds[count++] = cut;
+        }
+        bounds[count++] = length;
+        long[] chunkBounds = Arrays.copyOf(bounds, count);
+
+        return new KmerSource() {
+            @Override
+            public int chunks() {
+                return chunkBounds.length - 1;
+            }
+
+            @Override
+            public void scan(int chunk, int k, LongConsumer sink) {
+                scanChunk(chunkBounds[chunk], chunkBounds[chunk + 1], k, sink);
+            }
+        };
+    }
+
+    /**
+     * Reports the windows whose first base lies in {@code [from, to)}. Positions of the
+     * last 32 bases of the current run are kept in a ring so that a window's first base is
+     * known even when line breaks sit inside the window.
+     */
+    private void scanChunk(long from, long to, int k, LongConsumer sink) {
+        long mask = KmerCodec.mask(k);
+        long[] starts = new long[32];
+        long kmer = 0;
+        int valid = 0;
+        boolean lineStart = from == 0 || byteAt(from - 1) == '\n';
+        long pos = from;
+        while (pos < length) {
+            if (pos >= to) {
+                // Past the chunk: continue only while the next window would still start inside it.
+                if (valid == 0 || starts[Math.max(valid - k + 1, 0) & 31] >= to) return;
+            }
+            byte b = byteAt(pos++);
+            if (lineStart && (b == '>' || b == ';')) {
+                while (pos < length && byteAt(pos) != '\n') pos++;
+                valid = 0;
+                continue;
+            }
+            if (b == '\n') {
+                lineStart = true;
+                continue;
+            }
+            lineStart = false;
+            if (b == '\r') continue;
+            int code = KmerCodec.code(b);
+            if (code < 0) {
+                valid = 0;
+                continue;
+            }
+            kmer = ((kmer << 2) | code) & mask;
+            starts[valid & 31] = pos - 1;
+            if (++valid >= k && starts[(valid - k) & 31] < to) {
+                sink.accept(kmer);
+            }
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Files.createTempFile("sequence", ".fa");
+        try {
+            Files.writeString(file, """
+                    >seq1 example
+                    ATATTGGCCAATTG
+                    GCCAATTCGC
+                    >seq2
+                    ATTGGCCAATNTTGGCCAATT
+                    """);
+            SequenceFile sequences = open(file);
+            RepeatedSequences.repeatedSequences(sequences, 10).forEach(System.out::println);
+            KmerCounts counts = new KmerCounter(10).count(sequences);
+            System.out.println("ATTGGCCAAT x" + counts.count("ATTGGCCAAT")); // 3
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
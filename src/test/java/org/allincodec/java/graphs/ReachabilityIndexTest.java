@@ -0,0 +1,47 @@
+package org.allincodec.java.graphs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReachabilityIndexTest {
+
+    @Test
+    void closureThatCannotFitInOneArrayFallsBackToLabels() {
+        // 400 000 singleton components need 400 000 * 6250 closure words, beyond int range.
+        int n = 400_000;
+        CsrGraph.Builder builder = new CsrGraph.Builder(n, n - 1);
+        for (int v = 0; v + 1 < n; v++) builder.addEdge(v, v + 1);
+        ReachabilityIndex index = new ReachabilityIndex(builder.build(), Integer.MAX_VALUE);
+        assertEquals(n, index.components());
+        assertTrue(index.reachable(0, n - 1));
+        assertTrue(index.reachable(123_456, 399_999));
+        assertFalse(index.reachable(n - 1, 0));
+        assertFalse(index.reachable(300_000, 299_999));
+    }
+
+    @Test
+    void closureAndLabelsAgreeOnRandomGraphs() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(300);
+            CsrGraph.Builder builder = new CsrGraph.Builder(n);
+            for (int e = random.nextInt(2 * n); e > 0; e--) {
+                builder.addEdge(random.nextInt(n), random.nextInt(n));
+            }
+            CsrGraph graph = builder.build();
+            ReachabilityIndex closure = new ReachabilityIndex(graph, Integer.MAX_VALUE);
+            ReachabilityIndex labels = new ReachabilityIndex(graph, 0);
+            for (int src = 0; src < n; src++) {
+                for (int dst = 0; dst < n; dst++) {
+                    assertEquals(closure.reachable(src, dst), labels.reachable(src, dst),
+                            "trial " + trial + ": " + src + " -> " + dst);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.allincodec.java.graphs.partitioned;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ShardedBFSTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private static PartitionedGraph hashedChain(int vertices, int shards) {
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertices, vertices - 1);
+        for (int v = 0; v + 1 < vertices; v++) builder.addEdge(v, v + 1);
+        return PartitionedGraph.split(builder.build(), Partitioner.hashed(vertices, shards));
+    }
+
+    @Test
+    void distancesAlongChain() {
+        PartitionedGraph graph = hashedChain(1000, 8);
+        int[] expected = new int[1000];
+        for (int v = 0; v < expected.length; v++) expected[v] = v;
+        assertTimeoutPreemptively(TIMEOUT, () -> assertArrayEquals(expected, ShardedBFS.distances(graph, 0)));
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            assertTrue(ShardedBFS.isReachable(graph, 10, 999));
+            assertFalse(ShardedBFS.isReachable(graph, 999, 10));
+        });
+    }
+
+    @Test
+    void outOfRangeVerticesAreRejectedBeforeAnyShardStarts() {
+        PartitionedGraph graph = hashedChain(300_000, 8);
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            assertThrows(IllegalArgumentException.class, () -> ShardedBFS.distances(graph, 300_007));
+            assertThrows(IllegalArgumentException.class, () -> ShardedBFS.distances(graph, -1));
+            assertThrows(IllegalArgumentException.class, () -> ShardedBFS.isReachable(graph, 0, 300_000));
+        });
+    }
+
+    @Test
+    void failingShardMakesRunAllThrowInsteadOfHang() {
+        PartitionedGraph graph = hashedChain(300_000, 8);
+        // Shard 3 dies before its first superstep while the others block in exchange().
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            IllegalStateException e = assertThrows(IllegalStateException.class, () ->
+                    ShardedBFS.runAll(graph.shards(), (shard, transport) -> {
+                        if (shard == 3) throw new IllegalStateException("shard 3 crashed");
+                        return ShardedBFS.run(graph.shard(shard), transport, 0, -1);
+                    }));
+            assertTrue(e.getCause().getMessage().contains("shard 3 crashed"));
+        });
+    }
+
+    @Test
+    void failingShardMidRunMakesRunAllThrow() {
+        PartitionedGraph graph = hashedChain(20_000, 8);
+        for (int attempt = 0; attempt < 20; attempt++) {
+            // Shard 5 dies after a few supersteps, with the others anywhere in the protocol.
+            int supersteps = attempt;
+            assertTimeoutPreemptively(TIMEOUT, () -> assertThrows(IllegalStateException.class, () ->
+                    ShardedBFS.runAll(graph.shards(), (shard, transport) -> {
+                        ShardTransport failing = shard != 5 ? transport : new ShardTransport() {
+                            int calls;
+
+                            @Override
+                            public int shards() {
+                                return transport.shards();
+                            }
+
+                            @Override
+                            public int[][] exchange(int s, int[][] outgoing) throws InterruptedException {
+                                if (calls++ == supersteps) throw new IllegalStateException("shard 5 crashed");
+                                return transport.exchange(s, outgoing);
+                            }
+
+                            @Override
+                            public long sum(int s, long value) throws InterruptedException {
+                                return transport.sum(s, value);
+                            }
+                        };
+                        return ShardedBFS.run(graph.shard(shard), failing, 0, -1);
+                    })));
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package org.allincodec.java.graphs.shortestpath;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+class DeltaSteppingTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Test
+    void heavyEdgeFarAboveDeltaDoesNotAllocateEmptyBuckets() {
+        // Used to grow a dense list of 3e8 buckets and run out of memory.
+        CsrGraph graph = new CsrGraph.Builder(3)
+                .addEdge(0, 1, 1)
+                .addEdge(1, 2, 3e8)
+                .build();
+        double[] dist = new double[3];
+        int[] parent = new int[3];
+        assertTimeoutPreemptively(TIMEOUT, () -> new DeltaStepping(graph, 1).run(0, dist, parent));
+        assertEquals(0.0, dist[0], 0.0);
+        assertEquals(1.0, dist[1], 0.0);
+        assertEquals(300_000_001.0, dist[2], 0.0);
+        assertEquals(1, parent[2]);
+    }
+
+    @Test
+    void distancesBeyondLongBucketRangeStayExact() {
+        // Bucket indices saturate here; the shared last bucket must still converge.
+        CsrGraph graph = new CsrGraph.Builder(4)
+                .addEdge(0, 1, 1e300)
+                .addEdge(0, 2, 3e300)
+                .addEdge(1, 2, 1e300)
+                .addEdge(2, 3, 0.5)
+                .build();
+        double[] dist = new double[4];
+        assertTimeoutPreemptively(TIMEOUT, () -> new DeltaStepping(graph, 1e-3).run(0, dist, null));
+        assertEquals(1e300, dist[1], 0.0);
+        assertEquals(2e300, dist[2], 0.0);
+        assertEquals(2e300 + 0.5, dist[3], 0.0);
+    }
+
+    @Test
+    void matchesDijkstraOnRandomGraphs() {
+        Random random = new Random(13);
+        for (int trial = 0; trial < 20; trial++) {
+            int n = 1 + random.nextInt(3000);
+            int m = random.nextInt(6 * n);
+            CsrGraph.Builder builder = new CsrGraph.Builder(n);
+            for (int e = 0; e < m; e++) {
+                // Mix of light and very heavy edges so distances span many empty buckets.
+                double w = random.nextInt(10) == 0 ? random.nextInt(1_000_000) : random.nextInt(10);
+                builder.addEdge(random.nextInt(n), random.nextInt(n), w);
+            }
+            CsrGraph graph = builder.build();
+            int source = random.nextInt(n);
+
+            double[] expected = new double[n];
+            new Dijkstra(graph).run(source, expected, null);
+            double[] actual = new double[n];
+            double delta = 1 + random.nextInt(20);
+            new DeltaStepping(graph, delta).run(source, actual, null);
+            assertArrayEquals(expected, actual, 0.0);
+        }
+    }
+}
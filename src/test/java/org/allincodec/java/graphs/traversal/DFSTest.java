@@ -0,0 +1,50 @@
+package org.allincodec.java.graphs.traversal;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DFSTest {
+
+    @Test
+    void longChainDoesNotOverflowTheStack() {
+        int n = 10_000_000;
+        CsrGraph.Builder builder = new CsrGraph.Builder(n, n - 1);
+        for (int v = 0; v + 1 < n; v++) builder.addEdge(v, v + 1);
+        int[] order = new int[n];
+        assertEquals(n, DFS.depthFirstOrder(builder.build(), 0, order, new boolean[n]));
+        assertEquals(n - 1, order[n - 1]);
+    }
+
+    @Test
+    void preOrderMatchesIterativeDfs() {
+        Random random = new Random(1);
+        for (int trial = 0; trial < 50; trial++) {
+            int n = 1 + random.nextInt(500);
+            CsrGraph.Builder builder = new CsrGraph.Builder(n);
+            for (int e = random.nextInt(4 * n); e > 0; e--) {
+                builder.addEdge(random.nextInt(n), random.nextInt(n));
+            }
+            CsrGraph graph = builder.build();
+            int source = random.nextInt(n);
+
+            int[] expected = new int[n];
+            int[] count = new int[1];
+            new IterativeDFS(graph).search(source, new DfsVisitor() {
+                @Override
+                public void preVisit(int v) {
+                    expected[count[0]++] = v;
+                }
+            });
+
+            int[] order = new int[n];
+            int reached = DFS.depthFirstOrder(graph, source, order, new boolean[n]);
+            assertArrayEquals(Arrays.copyOf(expected, count[0]), Arrays.copyOf(order, reached));
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.allincodec.java.graphs.traversal;
+
+import org.allincodec.java.graphs.CsrGraph;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ParallelBFSTest {
+
+    /** Plain sequential queue BFS as the reference. */
+    private static int[] sequentialDistances(CsrGraph graph, int source) {
+        int n = graph.vertices();
+        int[] distances = new int[n];
+        Arrays.fill(distances, -1);
+        int[] queue = new int[n];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = source;
+        distances[source] = 0;
+        while (head < tail) {
+            int u = queue[head++];
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                int v = graph.target(e);
+                if (distances[v] < 0) {
+                    distances[v] = distances[u] + 1;
+                    queue[tail++] = v;
+                }
+            }
+        }
+        return distances;
+    }
+
+    private static void assertValidTree(CsrGraph graph, int source, ParallelBFS.Result result) {
+        int[] distances = result.distances();
+        int[] parents = result.parents();
+        assertEquals(source, parents[source]);
+        for (int v = 0; v < graph.vertices(); v++) {
+            if (v == source || distances[v] < 0) continue;
+            int u = parents[v];
+            assertEquals(distances[u] + 1, distances[v]);
+            boolean edge = false;
+            for (int e = graph.edgeStart(u), end = graph.edgeEnd(u); e < end; e++) {
+                if (graph.target(e) == v) edge = true;
+            }
+            assertTrue(edge, "parent " + u + " has no edge to " + v);
+        }
+    }
+
+    @Test
+    void longChainRunsInLinearTime() {
+        // Used to scan every bitset word on each of the 10^6 levels: minutes instead of milliseconds.
+        int n = 1_000_000;
+        CsrGraph.Builder builder = new CsrGraph.Builder(n, n - 1);
+        for (int v = 0; v + 1 < n; v++) builder.addEdge(v, v + 1);
+        CsrGraph chain = builder.build();
+        ParallelBFS.Result result = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> new ParallelBFS(chain).search(0));
+        for (int v = 0; v < n; v++) assertEquals(v, result.distances()[v]);
+    }
+
+    @Test
+    void matchesSequentialBfsOnRandomGraphs() {
+        Random random = new Random(2);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int trial = 0; trial < 20; trial++) {
+                int n = 1 + random.nextInt(50_000);
+                // Sparse graphs stay top-down; dense ones switch to bottom-up.
+                int edges = random.nextInt(trial % 2 == 0 ? 2 * n : 20 * n);
+                CsrGraph.Builder builder = new CsrGraph.Builder(n, Math.max(edges, 1));
+                for (int e = 0; e < edges; e++) builder.addEdge(random.nextInt(n), random.nextInt(n));
+                CsrGraph graph = builder.build();
+                int source = random.nextInt(n);
+
+                ParallelBFS.Result result = new ParallelBFS(graph, graph.transpose(), pool).search(source);
+                assertArrayEquals(sequentialDistances(graph, source), result.distances());
+                assertValidTree(graph, source, result);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.allincodec.java.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class BlockSlidingMaximumTest {
+
+    private static final int GRAIN = BlockSlidingMaximum.GRAIN;
+
+    private static int[] randomInts(Random random, int n) {
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = random.nextInt();
+        return values;
+    }
+
+    @Test
+    void smallWindowsMatchDeque() {
+        Random random = new Random(23);
+        int[] values = randomInts(random, 5 * GRAIN + 17);
+        for (int window : new int[]{1, 2, 3, 100, GRAIN - 1, GRAIN}) {
+            assertArrayEquals(new ParkingIceCreamTruck().slidingMaximum(values, window),
+                    new BlockSlidingMaximum().slidingMaximum(values, window));
+        }
+    }
+
+    @Test
+    void windowsLargerThanGrainAreSplitInsideBlocksAndMatchDeque() {
+        Random random = new Random(24);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            int[] values = randomInts(random, 4 * GRAIN + 12345);
+            int n = values.length;
+            // Down to a single block (B >= N / 2), window ends on and off chunk boundaries.
+            int[] windows = {GRAIN + 1, 2 * GRAIN, 2 * GRAIN + 7, n / 3, n / 2, n / 2 + 1, n - GRAIN, n - 1, n};
+            for (int window : windows) {
+                assertArrayEquals(new ParkingIceCreamTruck().slidingMaximum(values, window),
+                        new BlockSlidingMaximum(pool).slidingMaximum(values, window));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void descendingAndAscendingInputsWithLargeWindow() {
+        int n = 3 * GRAIN + 5;
+        int[] ascending = new int[n];
+        int[] descending = new int[n];
+        for (int i = 0; i < n; i++) {
+            ascending[i] = i;
+            descending[i] = n - i;
+        }
+        int window = GRAIN + GRAIN / 2;
+        BlockSlidingMaximum block = new BlockSlidingMaximum();
+        assertArrayEquals(new ParkingIceCreamTruck().slidingMaximum(ascending, window),
+                block.slidingMaximum(ascending, window));
+        assertArrayEquals(new ParkingIceCreamTruck().slidingMaximum(descending, window),
+                block.slidingMaximum(descending, window));
+    }
+}
@@ -0,0 +1,112 @@
+package org.allincodec.java.slidingWindow;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KmerCounterTest {
+
+    private static String randomDna(int n, double repeatRate, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        StringBuilder sb = new StringBuilder(n);
+        while (sb.length() < n) {
+            if (sb.length() > 100 && random.nextDouble() < repeatRate) {
+                int from = random.nextInt(sb.length() - 50);
+                sb.append(sb, from, from + 20 + random.nextInt(30));
+            } else {
+                sb.append("ACGT".charAt(random.nextInt(4)));
+            }
+        }
+        sb.setLength(n);
+        return sb.toString();
+    }
+
+    /** Sequential exact count, the reference every mode is checked against. */
+    private static LongCountMap exactCounts(CharSequence dna, int k) {
+        LongCountMap counts = new LongCountMap();
+        long mask = KmerCodec.mask(k);
+        long kmer = 0;
+        int valid = 0;
+        for (int i = 0; i < dna.length(); i++) {
+            int code = KmerCodec.code(dna.charAt(i));
+            if (code < 0) {
+                valid = 0;
+                continue;
+            }
+            kmer = ((kmer << 2) | code) & mask;
+            if (++valid >= k) counts.increment(kmer);
+        }
+        return counts;
+    }
+
+    private static void assertRepeatedExact(LongCountMap expected, KmerCounts actual) {
+        int[] repeated = {0};
+        expected.forEach((kmer, count) -> {
+            if (count >= 2) {
+                repeated[0]++;
+                assertEquals(count, actual.count(kmer), "count of " + actual.decode(kmer));
+            } else {
+                assertEquals(0, actual.count(kmer), "singleton " + actual.decode(kmer) + " reported");
+            }
+        });
+        assertEquals(repeated[0], actual.distinct());
+    }
+
+    @Test
+    void exactCountMatchesReference() {
+        String dna = randomDna(200_000, 0.01, 1);
+        LongCountMap expected = exactCounts(dna, 15);
+        KmerCounts counts = new KmerCounter(15).count(dna);
+        assertEquals(expected.size(), counts.distinct());
+        expected.forEach((kmer, count) -> assertEquals(count, counts.count(kmer)));
+    }
+
+    @Test
+    void countRepeatedIsExactWithTinyFilter() {
+        // A 256-bit filter saturates at once: nearly every singleton is a false positive.
+        String dna = randomDna(5000, 0, 2);
+        assertRepeatedExact(exactCounts(dna, 12), new KmerCounter(12).countRepeated(dna, 256));
+    }
+
+    @Test
+    void countRepeatedIsExactWithRepeats() {
+        String dna = randomDna(50_000, 0.02, 3);
+        KmerCounts repeated = new KmerCounter(21).countRepeated(dna, 8L * dna.length());
+        assertTrue(repeated.distinct() > 0);
+        assertRepeatedExact(exactCounts(dna, 21), repeated);
+    }
+
+    @Test
+    void countRepeatedIsExactAcrossParallelChunks() {
+        // Several GRAIN-sized chunks on several threads, so chunks race on the shared filter.
+        String dna = randomDna(4 * KmerCounter.GRAIN + 12345, 0.001, 4);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int k : new int[]{11, 31}) {
+                KmerCounter counter = new KmerCounter(k, pool);
+                assertRepeatedExact(exactCounts(dna, k), counter.countRepeated(dna, 1L << 20));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void bloomPutReportsEachNewKeyOnce() {
+        LongBloomFilter filter = new LongBloomFilter(1 << 16, 4);
+        int falsePositives = 0;
+        for (long key = 0; key < 8192; key++) {
+            if (filter.put(key * 0x9E3779B97F4A7C15L)) falsePositives++;
+        }
+        for (long key = 0; key < 8192; key++) {
+            assertTrue(filter.put(key * 0x9E3779B97F4A7C15L));
+            assertTrue(filter.mightContain(key * 0x9E3779B97F4A7C15L));
+        }
+        // 8 bits per key, 4 hashes
+        assertTrue(falsePositives < 8192 * 0.05, "false positives: " + falsePositives);
+    }
+}